@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -181,13 +182,35 @@ abstract class AbstractAssemblerProcessor<A extends Assembler> implements Assemb
                 }
 
                 Set<Path> paths = fileSet.getResolvedPaths(context);
-                FileUtils.copyFiles(context.getLogger(), src, dest, paths);
+                FileUtils.copyFiles(context.getLogger(), src, dest, paths, context.getModel().getAssemble().getResolvedStaging());
             }
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_files"), e);
         }
     }
 
+    /**
+     * Records every file {@link #copyFileSets} would copy, keyed by its path relative to the destination.
+     */
+    protected void fingerprintFileSets(JReleaserContext context, AssemblyFingerprint fingerprint) throws IOException {
+        int i = 0;
+        for (FileSet fileSet : assembler.getFileSets()) {
+            Path src = context.getBasedir().resolve(fileSet.getResolvedInput(context));
+            String output = fileSet.getResolvedOutput(context);
+            Path dest = isNotBlank(output) ? Paths.get(output) : Paths.get("");
+
+            String prefix = "fileSet." + (i++) + ".";
+            fingerprint.setting(prefix + "input", fileSet.getResolvedInput(context))
+                .setting(prefix + "output", output)
+                .setting(prefix + "includes", fileSet.getResolvedIncludes(context))
+                .setting(prefix + "excludes", fileSet.getResolvedExcludes(context));
+
+            for (Path path : fileSet.getResolvedPaths(context)) {
+                fingerprint.file(dest.resolve(path).normalize().toString(), src.resolve(path));
+            }
+        }
+    }
+
     protected String maybeQuote(String str) {
         return isWindows() ? quote(str) : str;
     }
@@ -20,13 +20,16 @@ package org.jreleaser.assemblers;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Archive;
 import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -46,7 +49,21 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<Archiv
         Path workDirectory = assembleDirectory.resolve("work");
         Path archiveDirectory = workDirectory.resolve(archiveName);
 
+        Map<FileType, Path> archives = new LinkedHashMap<>();
+        for (Archive.Format format : assembler.getFormats()) {
+            String finalArchiveName = archiveName + "." + format.extension();
+            context.getLogger().info("- {}", finalArchiveName);
+            archives.put(FileType.of(format.extension()), assembleDirectory.resolve(finalArchiveName));
+        }
+
+        AssemblyFingerprint fingerprint = fingerprint(assembleDirectory, archiveName);
+        if (null != fingerprint && fingerprint.isUpToDate(archives.values())) {
+            context.getLogger().info(RB.$("assembler.fingerprint.hit"), archiveName);
+            return;
+        }
+
         try {
+            if (null != fingerprint) fingerprint.invalidate();
             FileUtils.deleteFiles(workDirectory);
             Files.createDirectories(archiveDirectory);
         } catch (IOException e) {
@@ -56,39 +73,31 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<Archiv
         context.getLogger().debug(RB.$("assembler.copy.files"), context.relativizeToBasedir(archiveDirectory));
         copyFileSets(context, archiveDirectory);
 
-        // run archive x format
-        for (Archive.Format format : assembler.getFormats()) {
-            archive(workDirectory, assembleDirectory, archiveName, format);
+        // run archive x format, reading the work directory once for all formats
+        try {
+            FileUtils.archive(workDirectory, archives, assembler.getCompression().asOptions());
+        } catch (IOException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
         }
+
+        if (null != fingerprint) fingerprint.save();
     }
 
-    private void archive(Path workDirectory, Path assembleDirectory, String archiveName, Archive.Format format) throws AssemblerProcessingException {
-        String finalArchiveName = archiveName + "." + format.extension();
-        context.getLogger().info("- {}", finalArchiveName);
+    private AssemblyFingerprint fingerprint(Path assembleDirectory, String archiveName) {
+        AssemblyFingerprint fingerprint = new AssemblyFingerprint(context, assembleDirectory)
+            .setting("jreleaser", JReleaserVersion.getPlainVersion())
+            .setting("archiveName", archiveName)
+            .setting("formats", assembler.getFormats())
+            .setting("compression", assembler.getCompression().asMap(true));
 
         try {
-            Path archiveFile = assembleDirectory.resolve(finalArchiveName);
-            switch (format) {
-                case ZIP:
-                    FileUtils.zip(workDirectory, archiveFile);
-                    break;
-                case TAR:
-                    FileUtils.tar(workDirectory, archiveFile);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(workDirectory, archiveFile);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(workDirectory, archiveFile);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(workDirectory, archiveFile);
-            }
+            fingerprintFileSets(context, fingerprint);
+            return fingerprint;
         } catch (IOException e) {
-            throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+            // inputs that cannot be fingerprinted are assembled every time
+            context.getLogger().debug(RB.$("assembler.fingerprint.unavailable"), archiveName);
+            context.getLogger().trace(e);
+            return null;
         }
     }
 }
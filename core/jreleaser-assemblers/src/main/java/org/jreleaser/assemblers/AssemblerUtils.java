@@ -22,7 +22,9 @@ import org.jreleaser.model.Glob;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.JavaAssembler;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.StagingStrategy;
 
 import java.io.File;
 import java.io.IOException;
@@ -90,10 +92,11 @@ public final class AssemblerUtils {
 
         // copy all next
         try {
+            StagingStrategy staging = context.getModel().getAssemble().getResolvedStaging();
             Files.createDirectories(jarsDirectory);
             for (Path path : paths) {
                 context.getLogger().debug(RB.$("assembler.copying"), path.getFileName());
-                Files.copy(path, jarsDirectory.resolve(path.getFileName()), REPLACE_EXISTING);
+                FileUtils.stageFile(path, jarsDirectory.resolve(path.getFileName()), staging, REPLACE_EXISTING);
             }
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_jars"), e);
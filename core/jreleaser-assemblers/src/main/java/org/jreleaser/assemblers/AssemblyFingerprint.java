@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Fingerprint of the inputs of an assembler, stored next to its outputs.
+ * <p>
+ * Records the resolved settings of the assembler together with the relative path, size, mode
+ * and content hash of every file it packs. An assembler whose fingerprint matches the stored
+ * one and whose outputs exist does not need to run again.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+class AssemblyFingerprint {
+    static final String FINGERPRINT_FILE_NAME = ".assembly-fingerprint.json";
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final JReleaserContext context;
+    private final Path fingerprintFile;
+    private final Snapshot snapshot = new Snapshot();
+
+    AssemblyFingerprint(JReleaserContext context, Path directory) {
+        this.context = context;
+        this.fingerprintFile = directory.resolve(FINGERPRINT_FILE_NAME);
+    }
+
+    AssemblyFingerprint setting(String key, Object value) {
+        snapshot.settings.put(key, String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * Records {@code file} as the source of the entry at {@code path}, relative to the packed directory.
+     */
+    void file(String path, Path file) throws IOException {
+        Entry entry = new Entry();
+        entry.setSize(Files.size(file));
+        entry.setMode(mode(file));
+        entry.setDigest(ChecksumUtils.checksum(Algorithm.XXH3, file));
+        snapshot.files.put(path.replace('\\', '/'), entry);
+    }
+
+    boolean isUpToDate(Collection<Path> outputs) {
+        if (Files.notExists(fingerprintFile)) return false;
+        for (Path output : outputs) {
+            if (Files.notExists(output)) return false;
+        }
+
+        try {
+            return snapshot.equals(MAPPER.readValue(fingerprintFile.toFile(), Snapshot.class));
+        } catch (IOException e) {
+            // a corrupt fingerprint only costs a full assembly
+            context.getLogger().debug(RB.$("assembler.fingerprint.unreadable"), context.relativizeToBasedir(fingerprintFile));
+            context.getLogger().trace(e);
+            return false;
+        }
+    }
+
+    /**
+     * Removes the stored fingerprint so that an interrupted assembly is never considered up-to-date.
+     */
+    void invalidate() throws IOException {
+        Files.deleteIfExists(fingerprintFile);
+    }
+
+    void save() {
+        try {
+            Files.createDirectories(fingerprintFile.getParent());
+            MAPPER.writeValue(fingerprintFile.toFile(), snapshot);
+        } catch (IOException e) {
+            context.getLogger().debug(RB.$("assembler.fingerprint.unwritable"), context.relativizeToBasedir(fingerprintFile));
+            context.getLogger().trace(e);
+        }
+    }
+
+    private static String mode(Path file) throws IOException {
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return PosixFilePermissions.toString(Files.getPosixFilePermissions(file));
+        }
+        return Files.isExecutable(file) ? "x" : "";
+    }
+
+    public static class Snapshot {
+        private Map<String, String> settings = new TreeMap<>();
+        private Map<String, Entry> files = new TreeMap<>();
+
+        public Map<String, String> getSettings() {
+            return settings;
+        }
+
+        public void setSettings(Map<String, String> settings) {
+            this.settings = new TreeMap<>(settings);
+        }
+
+        public Map<String, Entry> getFiles() {
+            return files;
+        }
+
+        public void setFiles(Map<String, Entry> files) {
+            this.files = new TreeMap<>(files);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Snapshot)) return false;
+            Snapshot that = (Snapshot) o;
+            return settings.equals(that.settings) && files.equals(that.files);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(settings, files);
+        }
+    }
+
+    public static class Entry {
+        private long size;
+        private String mode;
+        private String digest;
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+
+        public String getMode() {
+            return mode;
+        }
+
+        public void setMode(String mode) {
+            this.mode = mode;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        public void setDigest(String digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry that = (Entry) o;
+            return size == that.size &&
+                Objects.equals(mode, that.mode) &&
+                Objects.equals(digest, that.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, mode, digest);
+        }
+    }
+}
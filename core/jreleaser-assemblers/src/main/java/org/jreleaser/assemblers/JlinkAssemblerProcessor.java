@@ -25,6 +25,7 @@ import org.jreleaser.model.Jlink;
 import org.jreleaser.model.Project;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.SemVer;
@@ -225,25 +226,8 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
             copyFiles(context, imageDirectory);
             copyFileSets(context, imageDirectory);
 
-            switch (archiveFormat) {
-                case ZIP:
-                    FileUtils.zip(workDirectory, imageArchive);
-                    break;
-                case TAR:
-                    FileUtils.tar(workDirectory, imageArchive);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(workDirectory, imageArchive);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(workDirectory, imageArchive);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(workDirectory, imageArchive);
-            }
+            FileUtils.archive(workDirectory, FileType.of(archiveFormat.extension()), imageArchive,
+                assembler.getCompression().asOptions());
 
             context.getLogger().debug("- {}", imageArchive.getFileName());
 
@@ -146,7 +146,7 @@ public class JpackageAssemblerProcessor extends AbstractJavaAssemblerProcessor<J
                     return (path.getFileName().toString().endsWith(".jar") && path.getParent().getFileName().toString().equals("jars")) ||
                         path.getFileName().toString().equals(context.getModel().getAssemble().findJlink(assembler.getJlink()).getExecutable());
                 }
-            })) {
+            }, context.getModel().getAssemble().getResolvedStaging())) {
                 throw new IOException(RB.$("ERROR_assembler_adjusting_image", adjustedImage));
             }
         } catch (IOException e) {
@@ -26,6 +26,7 @@ import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.sdk.tool.Upx;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.SemVer;
@@ -181,25 +182,8 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
             copyFileSets(context, distDirectory);
 
             Path imageArchive = assembleDirectory.resolve(finalImageName + "." + assembler.getArchiveFormat().extension());
-            switch (assembler.getArchiveFormat()) {
-                case ZIP:
-                    FileUtils.zip(tempDirectory, imageArchive);
-                    break;
-                case TAR:
-                    FileUtils.tar(tempDirectory, imageArchive);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(tempDirectory, imageArchive);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(tempDirectory, imageArchive);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(tempDirectory, imageArchive);
-            }
+            FileUtils.archive(tempDirectory, FileType.of(assembler.getArchiveFormat().extension()), imageArchive,
+                assembler.getCompression().asOptions());
 
             context.getLogger().debug("- {}", imageArchive.getFileName());
 
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class AssemblyFingerprintTest {
+    private JReleaserContext context;
+    private Path assembleDirectory;
+    private Path input;
+    private Collection<Path> outputs;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Path basedir = Files.createTempDirectory("fingerprint");
+        context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.ASSEMBLE,
+            new JReleaserModel(),
+            basedir,
+            basedir.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+
+        assembleDirectory = Files.createDirectories(context.getAssembleDirectory().resolve("app"));
+        input = Files.write(basedir.resolve("README.md"), "readme".getBytes());
+        outputs = Collections.singletonList(Files.write(assembleDirectory.resolve("app-1.0.0.zip"), "zip".getBytes()));
+
+        fingerprint("ZIP").save();
+    }
+
+    @Test
+    public void unchangedInputsAreUpToDate() throws IOException {
+        // expect:
+        assertTrue(fingerprint("ZIP").isUpToDate(outputs));
+    }
+
+    @Test
+    public void changedContentIsNotUpToDate() throws IOException {
+        // when:
+        Files.write(input, "README".getBytes());
+
+        // then:
+        assertFalse(fingerprint("ZIP").isUpToDate(outputs));
+    }
+
+    @Test
+    public void changedModeIsNotUpToDate() throws IOException {
+        assumeTrue(input.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        // when:
+        Files.setPosixFilePermissions(input, PosixFilePermissions.fromString("rwxr-xr-x"));
+
+        // then:
+        assertFalse(fingerprint("ZIP").isUpToDate(outputs));
+    }
+
+    @Test
+    public void changedSettingsAreNotUpToDate() throws IOException {
+        // expect:
+        assertFalse(fingerprint("TAR_GZ").isUpToDate(outputs));
+    }
+
+    @Test
+    public void missingOutputIsNotUpToDate() throws IOException {
+        // when:
+        Files.delete(outputs.iterator().next());
+
+        // then:
+        assertFalse(fingerprint("ZIP").isUpToDate(outputs));
+    }
+
+    @Test
+    public void invalidatedFingerprintIsNotUpToDate() throws IOException {
+        // when:
+        fingerprint("ZIP").invalidate();
+
+        // then:
+        assertFalse(fingerprint("ZIP").isUpToDate(outputs));
+    }
+
+    private AssemblyFingerprint fingerprint(String format) throws IOException {
+        AssemblyFingerprint fingerprint = new AssemblyFingerprint(context, assembleDirectory)
+            .setting("archiveName", "app-1.0.0")
+            .setting("formats", format);
+        fingerprint.file("README.md", input);
+        return fingerprint;
+    }
+}
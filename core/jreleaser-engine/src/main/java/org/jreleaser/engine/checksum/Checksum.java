@@ -18,21 +18,28 @@
 package org.jreleaser.engine.checksum;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.engine.sign.FusedSignatures;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Distribution;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.JReleaserException;
+import org.jreleaser.util.signing.SigningException;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.jreleaser.model.Checksum.KEY_SKIP_CHECKSUM;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -47,33 +54,42 @@ public class Checksum {
         context.getLogger().increaseIndent();
         context.getLogger().setPrefix("checksum");
 
+        Set<Algorithm> algorithms = context.getModel().getChecksum().getAlgorithms();
+        ChecksumIndex index = ChecksumIndex.load(context);
+        FusedSignatures fused = fusedSignatures(context);
+        List<Runnable> hashes = new ArrayList<>();
+        List<Runnable> entries = new ArrayList<>();
         Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
 
         if (context.getModel().getChecksum().isFiles()) {
             for (Artifact artifact : Artifacts.resolveFiles(context)) {
                 if (!artifact.isActive()) continue;
-                artifact.getEffectivePath(context);
+                Path artifactPath = artifact.getEffectivePath(context);
                 if (artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) continue;
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                hashes.add(() -> readHashes(context, index, fused, algorithms, artifact));
+                entries.add(() -> addEntries(checksums, algorithms, artifact, artifactPath));
             }
         }
 
         for (Distribution distribution : context.getModel().getActiveDistributions()) {
             for (Artifact artifact : distribution.getArtifacts()) {
                 if (!artifact.isActive()) continue;
-                artifact.getEffectivePath(context, distribution);
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, distribution, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context, distribution).getFileName());
-                }
+                Path artifactPath = artifact.getEffectivePath(context, distribution);
+                hashes.add(() -> readHashes(context, index, fused, distribution, algorithms, artifact));
+                entries.add(() -> addEntries(checksums, algorithms, artifact, artifactPath));
             }
         }
 
+        // hashing is independent per artifact, entries are collected afterwards to keep a stable order
+        try {
+            ConcurrencyUtils.forEach("checksum", context.getModel().getChecksum().getResolvedParallelism(), hashes, Runnable::run);
+            // every artifact of this release has been looked up, anything else is stale
+            index.retainUsed();
+        } finally {
+            index.save();
+        }
+        entries.forEach(Runnable::run);
+
         if (checksums.isEmpty()) {
             context.getLogger().info(RB.$("checksum.not.enabled"));
             context.getLogger().decreaseIndent();
@@ -121,47 +137,106 @@ public class Checksum {
         context.getLogger().decreaseIndent();
     }
 
+    private static FusedSignatures fusedSignatures(JReleaserContext context) throws JReleaserException {
+        try {
+            return FusedSignatures.of(context);
+        } catch (SigningException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_signing"), e);
+        }
+    }
+
+    private static void addEntries(Map<Algorithm, List<String>> checksums, Set<Algorithm> algorithms, Artifact artifact, Path artifactPath) {
+        for (Algorithm algorithm : algorithms) {
+            List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
+            list.add(artifact.getHash(algorithm) + "  " + artifactPath.getFileName());
+        }
+    }
+
     public static void readHash(JReleaserContext context, Distribution distribution, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readHashes(context, distribution, Collections.singleton(algorithm), artifact);
+    }
+
+    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readHashes(context, Collections.singleton(algorithm), artifact);
+    }
+
+    public static void readHashes(JReleaserContext context, Distribution distribution, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
+        ChecksumIndex index = ChecksumIndex.load(context);
+        readHashes(context, index, null, distribution, algorithms, artifact);
+        index.save();
+    }
+
+    public static void readHashes(JReleaserContext context, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
+        ChecksumIndex index = ChecksumIndex.load(context);
+        readHashes(context, index, null, algorithms, artifact);
+        index.save();
+    }
+
+    private static void readHashes(JReleaserContext context, ChecksumIndex index, FusedSignatures fused, Distribution distribution, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context, distribution);
-        Path checksumPath = context.getChecksumsDirectory().resolve(distribution.getName())
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumDirectory = context.getChecksumsDirectory().resolve(distribution.getName());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, index, fused, algorithms, artifact, artifactPath, checksumDirectory);
     }
 
-    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+    private static void readHashes(JReleaserContext context, ChecksumIndex index, FusedSignatures fused, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context);
-        Path checksumPath = context.getChecksumsDirectory()
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumDirectory = context.getChecksumsDirectory();
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, index, fused, algorithms, artifact, artifactPath, checksumDirectory);
     }
 
-    private static void readHash(JReleaserContext context,
-                                 Algorithm algorithm,
-                                 Artifact artifact,
-                                 Path artifactPath,
-                                 Path checksumPath) throws JReleaserException {
+    private static void readHashes(JReleaserContext context,
+                                   ChecksumIndex index,
+                                   FusedSignatures fused,
+                                   Collection<Algorithm> algorithms,
+                                   Artifact artifact,
+                                   Path artifactPath,
+                                   Path checksumDirectory) throws JReleaserException {
         if (!Files.exists(artifactPath)) {
             throw new JReleaserException(RB.$("ERROR_artifact_does_not_exist", context.relativizeToBasedir(artifactPath)));
         }
 
-        if (!Files.exists(checksumPath)) {
-            context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
-        } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("checksum.file.newer"),
-                context.relativizeToBasedir(artifactPath),
-                context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
+        Map<Algorithm, Path> checksumPaths = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            checksumPaths.put(algorithm, checksumDirectory.resolve(artifactPath.getFileName() + "." + algorithm.formatted()));
         }
 
+        Map<Algorithm, String> hashes = null;
         try {
-            context.getLogger().debug(RB.$("checksum.reading"),
-                context.relativizeToBasedir(checksumPath));
-            artifact.setHash(algorithm, new String(Files.readAllBytes(checksumPath)));
+            hashes = index.find(artifactPath, algorithms);
         } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), e);
+            context.getLogger().trace(e);
+        }
+
+        if (null != hashes) {
+            context.getLogger().debug(RB.$("checksum.index.hit"), context.relativizeToBasedir(artifactPath));
+            for (Map.Entry<Algorithm, String> e : hashes.entrySet()) {
+                writeHash(checksumPaths.get(e.getKey()), e.getValue());
+            }
+        } else {
+            hashes = calculateHashes(context, artifactPath, checksumPaths, openSignature(fused, artifactPath));
+            try {
+                index.put(artifactPath, hashes);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+        }
+
+        for (Map.Entry<Algorithm, String> e : hashes.entrySet()) {
+            artifact.setHash(e.getKey(), e.getValue());
+        }
+    }
+
+    private static void writeHash(Path checksumPath, String hash) throws JReleaserException {
+        try {
+            if (Files.exists(checksumPath) && hash.equals(new String(Files.readAllBytes(checksumPath)).trim())) {
+                return;
+            }
+            Files.createDirectories(checksumPath.getParent());
+            Files.write(checksumPath, hash.getBytes());
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_checksum", checksumPath.toAbsolutePath()), e);
         }
     }
 
@@ -170,14 +245,43 @@ public class Checksum {
     }
 
     public static String calculateHash(JReleaserContext context, Path input, Path output, Algorithm algorithm) throws JReleaserException {
+        return calculateHashes(context, input, Collections.singletonMap(algorithm, output)).get(algorithm);
+    }
+
+    public static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs) throws JReleaserException {
+        return calculateHashes(context, input, outputs, null);
+    }
+
+    private static FusedSignatures.Sink openSignature(FusedSignatures fused, Path input) throws JReleaserException {
+        if (null == fused) return null;
+
         try {
-            context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
-            String hashcode = ChecksumUtils.checksum(algorithm, Files.readAllBytes(input));
-            output.toFile().getParentFile().mkdirs();
-            Files.write(output, hashcode.getBytes());
-            return hashcode;
+            return fused.open(input);
+        } catch (SigningException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_signing"), e);
+        }
+    }
+
+    private static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs, FusedSignatures.Sink signature) throws JReleaserException {
+        // the sink discards the signature unless it is explicitly signed
+        try (OutputStream tee = signature) {
+            for (Algorithm algorithm : outputs.keySet()) {
+                context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
+            }
+            Map<Algorithm, String> hashcodes = ChecksumUtils.checksum(outputs.keySet(), input, tee);
+            for (Map.Entry<Algorithm, String> e : hashcodes.entrySet()) {
+                Path output = outputs.get(e.getKey());
+                output.toFile().getParentFile().mkdirs();
+                Files.write(output, e.getValue().getBytes());
+            }
+            if (null != signature) {
+                signature.sign();
+            }
+            return hashcodes;
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
+        } catch (SigningException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
         }
     }
 }
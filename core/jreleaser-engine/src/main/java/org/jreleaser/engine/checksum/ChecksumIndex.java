@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.checksum;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistent index of artifact fingerprints and their digests, stored in the checksums directory.
+ * <p>
+ * An artifact is considered unchanged when its path, size, modification time and file key
+ * match the recorded fingerprint, in which case its digests are reused without reading the file.
+ * A full checksum pass drops the entries it did not look up, such as renamed artifacts of
+ * previous releases.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ChecksumIndex {
+    static final String INDEX_FILE_NAME = ".checksums-index.json";
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final JReleaserContext context;
+    private final Path indexFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> used = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+
+    private ChecksumIndex(JReleaserContext context, Path indexFile) {
+        this.context = context;
+        this.indexFile = indexFile;
+    }
+
+    public static ChecksumIndex load(JReleaserContext context) {
+        ChecksumIndex index = new ChecksumIndex(context, context.getChecksumsDirectory().resolve(INDEX_FILE_NAME));
+
+        if (Files.exists(index.indexFile)) {
+            try {
+                Map<String, Entry> stored = MAPPER.readValue(index.indexFile.toFile(), new TypeReference<Map<String, Entry>>() {
+                });
+                index.entries.putAll(stored);
+            } catch (IOException e) {
+                // a corrupt index only costs a rehash
+                context.getLogger().debug(RB.$("checksum.index.unreadable"), context.relativizeToBasedir(index.indexFile));
+                context.getLogger().trace(e);
+            }
+        }
+
+        return index;
+    }
+
+    public void save() {
+        if (!dirty) return;
+
+        try {
+            Files.createDirectories(indexFile.getParent());
+            MAPPER.writeValue(indexFile.toFile(), new TreeMap<>(entries));
+            dirty = false;
+        } catch (IOException e) {
+            context.getLogger().debug(RB.$("checksum.index.unwritable"), context.relativizeToBasedir(indexFile));
+            context.getLogger().trace(e);
+        }
+    }
+
+    /**
+     * Drops every entry that was neither looked up nor recorded through this instance.
+     */
+    public void retainUsed() {
+        if (entries.keySet().retainAll(used)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns the recorded digests for the given path if its fingerprint is unchanged
+     * and every requested algorithm is available, {@code null} otherwise.
+     */
+    public Map<Algorithm, String> find(Path path, Collection<Algorithm> algorithms) throws IOException {
+        String key = key(path);
+        used.add(key);
+        Entry entry = entries.get(key);
+        if (null == entry || !entry.matches(fingerprint(path))) return null;
+
+        Map<Algorithm, String> hashes = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            String hash = entry.getHashes().get(algorithm.name());
+            if (null == hash) return null;
+            hashes.put(algorithm, hash);
+        }
+
+        return hashes;
+    }
+
+    public void put(Path path, Map<Algorithm, String> hashes) throws IOException {
+        String key = key(path);
+        Entry fingerprint = fingerprint(path);
+
+        Entry entry = entries.get(key);
+        if (null != entry && entry.matches(fingerprint)) {
+            // keep digests of other algorithms computed for the same content
+            fingerprint.getHashes().putAll(entry.getHashes());
+        }
+        for (Map.Entry<Algorithm, String> e : hashes.entrySet()) {
+            fingerprint.getHashes().put(e.getKey().name(), e.getValue());
+        }
+
+        entries.put(key, fingerprint);
+        used.add(key);
+        dirty = true;
+    }
+
+    private static String key(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    private static Entry fingerprint(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Entry entry = new Entry();
+        entry.setSize(attributes.size());
+        entry.setLastModified(attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS));
+        entry.setFileKey(null != attributes.fileKey() ? String.valueOf(attributes.fileKey()) : null);
+        return entry;
+    }
+
+    public static class Entry {
+        private final Map<String, String> hashes = new TreeMap<>();
+        private long size;
+        private long lastModified;
+        private String fileKey;
+
+        boolean matches(Entry other) {
+            return size == other.size &&
+                lastModified == other.lastModified &&
+                Objects.equals(fileKey, other.fileKey);
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+
+        public String getFileKey() {
+            return fileKey;
+        }
+
+        public void setFileKey(String fileKey) {
+            this.fileKey = fileKey;
+        }
+
+        public Map<String, String> getHashes() {
+            return hashes;
+        }
+
+        public void setHashes(Map<String, String> hashes) {
+            this.hashes.clear();
+            this.hashes.putAll(hashes);
+        }
+    }
+}
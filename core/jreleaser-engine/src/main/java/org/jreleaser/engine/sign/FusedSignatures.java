@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPPrivateKey;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserCommand;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.Signing;
+import org.jreleaser.util.signing.SigningException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signs artifacts with the same read that computes their checksums.
+ * Signatures produced this way are reported as valid to the sign step
+ * of the same context, saving the read needed to verify them again.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public final class FusedSignatures {
+    private final JReleaserContext context;
+    private final PGPPrivateKey privateKey;
+    private final Map<Path, Path> targets = new ConcurrentHashMap<>();
+
+    private FusedSignatures(JReleaserContext context, PGPPrivateKey privateKey) {
+        this.context = context;
+        this.privateKey = privateKey;
+
+        for (Signer.FilePair pair : Signer.collectFilePairs(context)) {
+            targets.put(normalize(pair.getInputFile()), pair.getSignatureFile());
+        }
+    }
+
+    /**
+     * Returns {@code null} unless fused signing is enabled, the current command signs
+     * artifacts and signatures are generated with BouncyCastle.
+     */
+    public static FusedSignatures of(JReleaserContext context) throws SigningException {
+        Signing signing = context.getModel().getSigning();
+        if (!signing.isEnabled() || !signing.isFused() ||
+            !JReleaserCommand.supportsSign(context.getCommand()) ||
+            signing.getMode() == Signing.Mode.COMMAND ||
+            signing.getMode() == Signing.Mode.COSIGN) {
+            return null;
+        }
+
+        return new FusedSignatures(context, Signer.extractPrivateKey(signing, context.createKeyring()));
+    }
+
+    /**
+     * Opens a sink for the given input. The signature is only written by {@link Sink#sign()},
+     * closing an unsigned sink discards it.
+     * Returns {@code null} if the input is not signed or was already claimed.
+     */
+    public Sink open(Path input) throws SigningException {
+        Path signatureFile = targets.remove(normalize(input));
+        if (null == signatureFile) return null;
+
+        try {
+            Files.createDirectories(signatureFile.getParent());
+        } catch (IOException e) {
+            throw new SigningException(RB.$("ERROR_signing_create_signature_dir"), e);
+        }
+
+        return new Sink(input, signatureFile, Signer.initSignatureGenerator(privateKey));
+    }
+
+    static boolean isSigned(JReleaserContext context, Signer.FilePair pair) {
+        if (context.getFusedSignatures().contains(normalize(pair.getInputFile())) && Files.exists(pair.getSignatureFile())) {
+            context.getLogger().debug(RB.$("signing.fused.signed"), context.relativizeToBasedir(pair.getInputFile()));
+            return true;
+        }
+        return false;
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    public final class Sink extends OutputStream {
+        private final Path input;
+        private final Path signatureFile;
+        private PGPSignatureGenerator generator;
+
+        private Sink(Path input, Path signatureFile, PGPSignatureGenerator generator) {
+            this.input = input;
+            this.signatureFile = signatureFile;
+            this.generator = generator;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkOpen();
+            generator.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            checkOpen();
+            generator.update(b, off, len);
+        }
+
+        /**
+         * Writes the signature of every byte received so far. Must only be called
+         * once the whole input went through this sink.
+         */
+        public void sign() throws SigningException {
+            try {
+                checkOpen();
+                Signer.writeSignature(context, generator.generate(), signatureFile);
+            } catch (IOException | PGPException e) {
+                deleteSignature();
+                throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
+            } finally {
+                generator = null;
+            }
+            context.getFusedSignatures().add(normalize(input));
+            context.getLogger().debug("{}", context.relativizeToBasedir(signatureFile));
+        }
+
+        @Override
+        public void close() {
+            // an input that was not fully read is left to the sign step
+            generator = null;
+        }
+
+        private void deleteSignature() {
+            try {
+                Files.deleteIfExists(signatureFile);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+        }
+
+        private void checkOpen() throws IOException {
+            if (null == generator) {
+                throw new IOException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()));
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.engine.checksum.ChecksumIndex;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent manifest of verified signatures, stored in the signatures directory.
+ * <p>
+ * A signature is considered up-to-date when the digest of its input, the fingerprint of the
+ * signing key and the digest of the signature itself match the recorded entry, in which case
+ * it is not verified again. Input digests are looked up in the {@code ChecksumIndex} first.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+class SignatureManifest {
+    static final String MANIFEST_FILE_NAME = ".signatures-manifest.json";
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Set<Algorithm> ALGORITHMS = Collections.singleton(Algorithm.SHA_256);
+
+    private final JReleaserContext context;
+    private final Path manifestFile;
+    private final String keyFingerprint;
+    private final ChecksumIndex index;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> current = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+
+    private SignatureManifest(JReleaserContext context, Path manifestFile, String keyFingerprint) {
+        this.context = context;
+        this.manifestFile = manifestFile;
+        this.keyFingerprint = keyFingerprint;
+        this.index = ChecksumIndex.load(context);
+    }
+
+    /**
+     * Loads the manifest for the given key. A {@code null} fingerprint disables the manifest,
+     * every signature is then verified.
+     */
+    static SignatureManifest load(JReleaserContext context, String keyFingerprint) {
+        SignatureManifest manifest = new SignatureManifest(context,
+            context.getSignaturesDirectory().resolve(MANIFEST_FILE_NAME), keyFingerprint);
+
+        if (null != keyFingerprint && Files.exists(manifest.manifestFile)) {
+            try {
+                Map<String, Entry> stored = MAPPER.readValue(manifest.manifestFile.toFile(), new TypeReference<Map<String, Entry>>() {
+                });
+                manifest.entries.putAll(stored);
+            } catch (IOException e) {
+                // a corrupt manifest only costs a verification
+                context.getLogger().debug(RB.$("signing.manifest.unreadable"), context.relativizeToBasedir(manifest.manifestFile));
+                context.getLogger().trace(e);
+            }
+        }
+
+        return manifest;
+    }
+
+    boolean isUpToDate(Signer.FilePair pair) {
+        if (null == keyFingerprint || Files.notExists(pair.getSignatureFile())) return false;
+
+        String key = key(pair.getSignatureFile());
+        Entry entry = entries.get(key);
+        if (null == entry) return false;
+
+        try {
+            if (entry.matches(entry(pair))) {
+                context.getLogger().debug(RB.$("signing.manifest.hit"), context.relativizeToBasedir(pair.getInputFile()));
+                current.add(key);
+                return true;
+            }
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+        }
+
+        return false;
+    }
+
+    /**
+     * Records every valid pair not already up-to-date and saves both the manifest and the index.
+     */
+    void update(Collection<Signer.FilePair> files) {
+        if (null == keyFingerprint) return;
+
+        for (Signer.FilePair pair : files) {
+            String key = key(pair.getSignatureFile());
+            if (!pair.isValid() || current.contains(key)) continue;
+
+            try {
+                entries.put(key, entry(pair));
+                current.add(key);
+                dirty = true;
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+        }
+
+        index.save();
+        save();
+    }
+
+    private void save() {
+        if (!dirty) return;
+
+        try {
+            Files.createDirectories(manifestFile.getParent());
+            MAPPER.writeValue(manifestFile.toFile(), new TreeMap<>(entries));
+            dirty = false;
+        } catch (IOException e) {
+            context.getLogger().debug(RB.$("signing.manifest.unwritable"), context.relativizeToBasedir(manifestFile));
+            context.getLogger().trace(e);
+        }
+    }
+
+    private Entry entry(Signer.FilePair pair) throws IOException {
+        Entry entry = new Entry();
+        entry.setInputDigest(inputDigest(pair.getInputFile()));
+        entry.setKeyFingerprint(keyFingerprint);
+        entry.setSignatureDigest(ChecksumUtils.checksum(Algorithm.SHA_256, pair.getSignatureFile()));
+        return entry;
+    }
+
+    private String inputDigest(Path input) throws IOException {
+        Map<Algorithm, String> hashes = index.find(input, ALGORITHMS);
+        if (null == hashes) {
+            hashes = ChecksumUtils.checksum(ALGORITHMS, input);
+            index.put(input, hashes);
+        }
+        return hashes.get(Algorithm.SHA_256);
+    }
+
+    private static String key(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    public static class Entry {
+        private String inputDigest;
+        private String keyFingerprint;
+        private String signatureDigest;
+
+        boolean matches(Entry other) {
+            return Objects.equals(inputDigest, other.inputDigest) &&
+                Objects.equals(keyFingerprint, other.keyFingerprint) &&
+                Objects.equals(signatureDigest, other.signatureDigest);
+        }
+
+        public String getInputDigest() {
+            return inputDigest;
+        }
+
+        public void setInputDigest(String inputDigest) {
+            this.inputDigest = inputDigest;
+        }
+
+        public String getKeyFingerprint() {
+            return keyFingerprint;
+        }
+
+        public void setKeyFingerprint(String keyFingerprint) {
+            this.keyFingerprint = keyFingerprint;
+        }
+
+        public String getSignatureDigest() {
+            return signatureDigest;
+        }
+
+        public void setSignatureDigest(String signatureDigest) {
+            this.signatureDigest = signatureDigest;
+        }
+    }
+}
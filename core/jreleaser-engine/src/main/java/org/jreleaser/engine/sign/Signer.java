@@ -26,13 +26,17 @@ import org.bouncycastle.openpgp.PGPException;
 import org.bouncycastle.openpgp.PGPObjectFactory;
 import org.bouncycastle.openpgp.PGPPrivateKey;
 import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPPublicKeyRingCollection;
 import org.bouncycastle.openpgp.PGPSecretKey;
 import org.bouncycastle.openpgp.PGPSignature;
 import org.bouncycastle.openpgp.PGPSignatureGenerator;
 import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.operator.KeyFingerPrintCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcKeyFingerprintCalculator;
 import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentSignerBuilder;
 import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
 import org.bouncycastle.openpgp.operator.jcajce.JcePBESecretKeyDecryptorBuilder;
+import org.bouncycastle.util.encoders.Hex;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Distribution;
@@ -42,13 +46,17 @@ import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.sdk.tool.Cosign;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.command.CommandException;
+import org.jreleaser.util.signing.CosignSigner;
 import org.jreleaser.util.signing.GpgCommandSigner;
 import org.jreleaser.util.signing.Keyring;
 import org.jreleaser.util.signing.SigningException;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -57,6 +65,7 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.Provider;
+import java.security.PublicKey;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
@@ -72,6 +81,9 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public class Signer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final KeyFingerPrintCalculator KEY_FINGERPRINT_CALCULATOR = new BcKeyFingerprintCalculator();
+
     static {
         // replace BC provider with our version
         Provider bcProvider = Security.getProvider("BC");
@@ -107,183 +119,280 @@ public class Signer {
     }
 
     private static void cmdSign(JReleaserContext context) throws SigningException {
-        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, null, pair));
-        if (files.isEmpty()) {
+        SignatureManifest manifest = SignatureManifest.load(context, commandFingerprint(context));
+        PGPPublicKeyRingCollection publicKeys = exportPublicKeys(context);
+
+        List<FilePair> pairs = collectArtifacts(context, pair -> manifest.isUpToDate(pair) || isValid(context, publicKeys, pair));
+        if (pairs.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
         }
 
-        files = files.stream()
+        List<FilePair> files = pairs.stream()
             .filter(FilePair::isInvalid)
             .collect(Collectors.toList());
 
         if (files.isEmpty()) {
+            manifest.update(pairs);
             context.getLogger().info(RB.$("signing.up.to.date"));
             return;
         }
 
         sign(context, files);
-        verify(context, files);
+        verify(context, publicKeys, files);
+        manifest.update(pairs);
     }
 
-    private static void cosignSign(JReleaserContext context) throws SigningException {
-        Signing signing = context.getModel().getSigning();
+    private static PGPPublicKeyRingCollection exportPublicKeys(JReleaserContext context) {
+        if (!context.getModel().getSigning().getCommand().isVerifyInProcess()) return null;
 
-        Cosign cosign = new Cosign(context, signing.getCosign().getVersion());
+        // the public key is exported once, signatures are then verified without spawning gpg
         try {
-            if (!cosign.setup()) {
-                context.getLogger().warn(RB.$("tool_unavailable", "cosign"));
-                return;
+            byte[] exported = initCommandSigner(context).exportPublicKey();
+            if (exported.length > 0) {
+                return new PGPPublicKeyRingCollection(PGPUtil.getDecoderStream(
+                    new ByteArrayInputStream(exported)), KEY_FINGERPRINT_CALCULATOR);
             }
-        } catch (ToolException e) {
-            throw new SigningException(e.getMessage(), e);
+        } catch (CommandException | IOException | PGPException e) {
+            context.getLogger().trace(e);
         }
 
+        context.getLogger().warn(RB.$("signing.command.export.failed"));
+        return null;
+    }
+
+    private static void cosignSign(JReleaserContext context) throws SigningException {
+        Signing signing = context.getModel().getSigning();
+
         String privateKey = signing.getCosign().getResolvedPrivateKeyFile();
         String publicKey = signing.getCosign().getResolvedPublicKeyFile();
 
         Path privateKeyFile = isNotBlank(privateKey) ? context.getBasedir().resolve(privateKey) : null;
         Path publicKeyFile = isNotBlank(publicKey) ? context.getBasedir().resolve(publicKey) : null;
-        byte[] password = (signing.getResolvedCosignPassword() + System.lineSeparator()).getBytes();
+        String password = signing.getResolvedCosignPassword();
 
         boolean forceSign = false;
         if (null == privateKeyFile) {
             privateKeyFile = signing.getCosign().getResolvedPrivateKeyFilePath(context);
             publicKeyFile = privateKeyFile.resolveSibling("cosign.pub");
             if (!Files.exists(privateKeyFile)) {
-                privateKeyFile = cosign.generateKeyPair(password);
+                privateKeyFile = generateCosignKeyPair(context, password);
+                if (null == privateKeyFile) return;
                 forceSign = true;
             }
         }
-        Path thePublicKeyFile = publicKeyFile;
 
-        List<FilePair> files = collectArtifacts(context, forceSign, pair -> isValid(context, cosign, thePublicKeyFile, pair));
-        if (files.isEmpty()) {
+        // the private key is only decrypted if there is something to sign or no public key is available
+        CosignSigner signer = null;
+        PublicKey cosignPublicKey;
+        if (null != publicKeyFile && Files.exists(publicKeyFile)) {
+            cosignPublicKey = CosignSigner.readPublicKey(publicKeyFile);
+        } else {
+            signer = initCosignSigner(context, privateKeyFile, password);
+            if (null == signer) return;
+            cosignPublicKey = signer.getPublicKey();
+        }
+
+        SignatureManifest manifest = SignatureManifest.load(context, cosignFingerprint(context, cosignPublicKey));
+
+        List<FilePair> pairs = collectArtifacts(context, forceSign, pair -> manifest.isUpToDate(pair) ||
+            isValid(context, cosignPublicKey, pair));
+        if (pairs.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
         }
 
-        files = files.stream()
+        List<FilePair> files = pairs.stream()
             .filter(FilePair::isInvalid)
             .collect(Collectors.toList());
 
         if (files.isEmpty()) {
+            manifest.update(pairs);
             context.getLogger().info(RB.$("signing.up.to.date"));
             return;
         }
 
-        if (!cosign.checkPassword(privateKeyFile, password)) {
-            context.getLogger().warn(RB.$("WARN_cosign_password_does_not_match", "cosign"));
-            return;
+        if (null == signer) {
+            signer = initCosignSigner(context, privateKeyFile, password);
+            if (null == signer) return;
         }
 
-        sign(context, files, cosign, privateKeyFile, password);
-        verify(context, files, cosign, publicKeyFile);
+        sign(context, files, signer);
+        verify(context, files, cosignPublicKey);
+        manifest.update(pairs);
+    }
+
+    private static Path generateCosignKeyPair(JReleaserContext context, String password) throws SigningException {
+        Cosign cosign = new Cosign(context, context.getModel().getSigning().getCosign().getVersion());
+        try {
+            if (!cosign.setup()) {
+                context.getLogger().warn(RB.$("tool_unavailable", "cosign"));
+                return null;
+            }
+        } catch (ToolException e) {
+            throw new SigningException(e.getMessage(), e);
+        }
+
+        return cosign.generateKeyPair((password + System.lineSeparator()).getBytes());
+    }
+
+    private static CosignSigner initCosignSigner(JReleaserContext context, Path privateKeyFile, String password) throws SigningException {
+        try {
+            return CosignSigner.of(privateKeyFile, password.getBytes());
+        } catch (SigningException e) {
+            // keys generated by previous releases were sealed with a trailing line separator
+            try {
+                return CosignSigner.of(privateKeyFile, (password + System.lineSeparator()).getBytes());
+            } catch (SigningException ignored) {
+                context.getLogger().trace(e);
+                context.getLogger().warn(RB.$("WARN_cosign_password_does_not_match", "cosign"));
+                return null;
+            }
+        }
     }
 
     private static void bcSign(JReleaserContext context) throws SigningException {
         Keyring keyring = context.createKeyring();
+        PGPPublicKey publicKey = keyring.readPublicKey();
+        SignatureManifest manifest = SignatureManifest.load(context, Hex.toHexString(publicKey.getFingerprint()));
 
-        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, keyring, pair));
-        if (files.isEmpty()) {
+        List<FilePair> pairs = collectArtifacts(context, pair -> FusedSignatures.isSigned(context, pair) ||
+            manifest.isUpToDate(pair) ||
+            isValid(context, keyring, publicKey, pair));
+        if (pairs.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
         }
 
-        files = files.stream()
+        List<FilePair> files = pairs.stream()
             .filter(FilePair::isInvalid)
             .collect(Collectors.toList());
 
         if (files.isEmpty()) {
+            manifest.update(pairs);
             context.getLogger().info(RB.$("signing.up.to.date"));
             return;
         }
 
         sign(context, keyring, files);
         verify(context, keyring, files);
+        manifest.update(pairs);
+    }
+
+    private static String commandFingerprint(JReleaserContext context) {
+        try {
+            String fingerprint = initCommandSigner(context).fingerprint();
+            if (null != fingerprint) return fingerprint;
+        } catch (CommandException e) {
+            context.getLogger().trace(e);
+        }
+
+        context.getLogger().debug(RB.$("signing.manifest.no.fingerprint"));
+        return null;
+    }
+
+    private static String cosignFingerprint(JReleaserContext context, PublicKey publicKey) {
+        try {
+            return ChecksumUtils.checksum(Algorithm.SHA_256, publicKey.getEncoded());
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+        }
+
+        context.getLogger().debug(RB.$("signing.manifest.no.fingerprint"));
+        return null;
     }
 
     private static void verify(JReleaserContext context, Keyring keyring, List<FilePair> files) throws SigningException {
         if (null == keyring) {
-            verify(context, files);
+            verify(context, (PGPPublicKeyRingCollection) null, files);
             return;
         }
 
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        for (FilePair pair : files) {
-            pair.setValid(verify(context, keyring, pair));
+        PGPPublicKey publicKey = keyring.readPublicKey();
 
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.inputFile),
-                    context.relativizeToBasedir(pair.signatureFile)));
-            }
+        context.getLogger().setPrefix("verify");
+        try {
+            ConcurrencyUtils.forEach("verify", context.getModel().getSigning().getResolvedParallelism(), files, pair -> {
+                pair.setValid(verify(context, keyring.getKeyFingerPrintCalculator(), keyId -> publicKey, pair));
+
+                if (!pair.isValid()) {
+                    throw new SigningException(RB.$("ERROR_signing_verify_file",
+                        context.relativizeToBasedir(pair.inputFile),
+                        context.relativizeToBasedir(pair.signatureFile)));
+                }
+            });
+        } finally {
+            context.getLogger().restorePrefix();
         }
     }
 
-    private static void verify(JReleaserContext context, List<FilePair> files) throws SigningException {
+    private static void verify(JReleaserContext context, PGPPublicKeyRingCollection publicKeys, List<FilePair> files) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        for (FilePair pair : files) {
-            pair.setValid(verify(context, pair));
+        context.getLogger().setPrefix("verify");
+        try {
+            ConcurrencyUtils.forEach("verify", context.getModel().getSigning().getResolvedParallelism(), files, pair -> {
+                pair.setValid(verify(context, publicKeys, pair));
 
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.inputFile),
-                    context.relativizeToBasedir(pair.signatureFile)));
-            }
+                if (!pair.isValid()) {
+                    throw new SigningException(RB.$("ERROR_signing_verify_file",
+                        context.relativizeToBasedir(pair.inputFile),
+                        context.relativizeToBasedir(pair.signatureFile)));
+                }
+            });
+        } finally {
+            context.getLogger().restorePrefix();
         }
     }
 
-    private static boolean verify(JReleaserContext context, Keyring keyring, FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
+    private static boolean verify(JReleaserContext context, KeyFingerPrintCalculator calculator,
+                                  Function<Long, PGPPublicKey> publicKeys, FilePair filePair) throws SigningException {
+        context.getLogger().debug("{}",
+            context.relativizeToBasedir(filePair.signatureFile));
 
-        try {
-            context.getLogger().debug("{}",
-                context.relativizeToBasedir(filePair.signatureFile));
-
-            InputStream sigInputStream = PGPUtil.getDecoderStream(
-                new BufferedInputStream(
-                    new FileInputStream(filePair.signatureFile.toFile())));
+        try (InputStream sigInputStream = PGPUtil.getDecoderStream(
+            new BufferedInputStream(
+                new FileInputStream(filePair.signatureFile.toFile())));
+             InputStream fileInputStream = new FileInputStream(filePair.inputFile.toFile())) {
 
-            PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
+            PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, calculator);
             Iterable<?> pgpSigList = null;
 
             Object obj = pgpObjFactory.nextObject();
             if (obj instanceof PGPCompressedData) {
                 PGPCompressedData c1 = (PGPCompressedData) obj;
-                pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
+                pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), calculator);
                 pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
             } else {
                 pgpSigList = (Iterable<?>) obj;
             }
 
-            InputStream fileInputStream = new BufferedInputStream(new FileInputStream(filePair.inputFile.toFile()));
+            // each signature instance is parsed per file, only the public key is shared
             PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
-            PGPPublicKey pubKey = keyring.readPublicKey();
+            PGPPublicKey publicKey = publicKeys.apply(sig.getKeyID());
+            if (null == publicKey) return false;
             sig.init(new JcaPGPContentVerifierBuilderProvider()
-                .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
+                .setProvider(BouncyCastleProvider.PROVIDER_NAME), publicKey);
 
-            int ch;
-            while ((ch = fileInputStream.read()) >= 0) {
-                sig.update((byte) ch);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = fileInputStream.read(buffer)) >= 0) {
+                sig.update(buffer, 0, length);
             }
 
-            fileInputStream.close();
-            sigInputStream.close();
-
             return sig.verify();
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
-    private static boolean verify(JReleaserContext context, FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
+    private static boolean verify(JReleaserContext context, PGPPublicKeyRingCollection publicKeys, FilePair filePair) throws SigningException {
+        if (null != publicKeys) {
+            return verify(context, KEY_FINGERPRINT_CALCULATOR, keyId -> findPublicKey(publicKeys, keyId), filePair);
+        }
 
         try {
             context.getLogger().debug("{}",
@@ -294,13 +403,18 @@ public class Signer {
         } catch (CommandException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
-    private static void sign(JReleaserContext context, List<FilePair> files,
-                             Cosign cosign, Path privateKeyFile, byte[] password) throws SigningException {
+    private static PGPPublicKey findPublicKey(PGPPublicKeyRingCollection publicKeys, long keyId) {
+        try {
+            return publicKeys.getPublicKey(keyId);
+        } catch (PGPException e) {
+            return null;
+        }
+    }
+
+    private static void sign(JReleaserContext context, List<FilePair> files, CosignSigner signer) throws SigningException {
         Path signaturesDirectory = context.getSignaturesDirectory();
 
         try {
@@ -312,27 +426,32 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        for (FilePair pair : files) {
-            cosign.signBlob(privateKeyFile, password, pair.inputFile, signaturesDirectory);
-        }
+        ConcurrencyUtils.forEach("sign", context.getModel().getSigning().getResolvedParallelism(), files, pair -> {
+            context.getLogger().info("{}", context.relativizeToBasedir(pair.inputFile));
+
+            try {
+                Files.write(pair.signatureFile, signer.sign(pair.inputFile));
+            } catch (IOException e) {
+                throw new SigningException(RB.$("ERROR_unexpected_error_signing", pair.inputFile), e);
+            }
+        });
     }
 
-    private static void verify(JReleaserContext context, List<FilePair> files,
-                               Cosign cosign, Path publicKeyFile) throws SigningException {
+    private static void verify(JReleaserContext context, List<FilePair> files, PublicKey publicKey) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
         context.getLogger().setPrefix("verify");
         try {
-            for (FilePair pair : files) {
-                cosign.verifyBlob(publicKeyFile, pair.signatureFile, pair.inputFile);
-                pair.setValid(true);
+            ConcurrencyUtils.forEach("verify", context.getModel().getSigning().getResolvedParallelism(), files, pair -> {
+                context.getLogger().debug("{}", context.relativizeToBasedir(pair.signatureFile));
+                pair.setValid(CosignSigner.verify(publicKey, pair.signatureFile, pair.inputFile));
 
                 if (!pair.isValid()) {
                     throw new SigningException(RB.$("ERROR_signing_verify_file",
                         context.relativizeToBasedir(pair.inputFile),
                         context.relativizeToBasedir(pair.signatureFile)));
                 }
-            }
+            });
         } finally {
             context.getLogger().restorePrefix();
         }
@@ -350,11 +469,11 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
+        // gpg-agent serves concurrent clients, each file gets its own gpg process
         GpgCommandSigner commandSigner = initCommandSigner(context);
 
-        for (FilePair pair : files) {
-            sign(context, commandSigner, pair.inputFile, pair.signatureFile);
-        }
+        ConcurrencyUtils.forEach("sign", context.getModel().getSigning().getResolvedParallelism(), files, pair ->
+            sign(context, commandSigner, pair.inputFile, pair.signatureFile));
     }
 
     private static GpgCommandSigner initCommandSigner(JReleaserContext context) {
@@ -374,8 +493,10 @@ public class Signer {
         try {
             context.getLogger().info("{}", context.relativizeToBasedir(input));
 
+            // gpg refuses to overwrite an existing (invalid) signature in batch mode
+            Files.deleteIfExists(output);
             commandSigner.sign(input, output);
-        } catch (CommandException e) {
+        } catch (CommandException | IOException e) {
             throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
         }
     }
@@ -392,27 +513,33 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        PGPSignatureGenerator signatureGenerator = initSignatureGenerator(context.getModel().getSigning(), keyring);
+        // the private key is extracted once, generators are not thread safe hence one per file
+        PGPPrivateKey privateKey = extractPrivateKey(context.getModel().getSigning(), keyring);
 
-        for (FilePair pair : files) {
-            sign(context, signatureGenerator, pair.inputFile, pair.signatureFile);
-        }
+        ConcurrencyUtils.forEach("sign", context.getModel().getSigning().getResolvedParallelism(), files, pair ->
+            sign(context, initSignatureGenerator(privateKey), pair.inputFile, pair.signatureFile));
     }
 
-    private static PGPSignatureGenerator initSignatureGenerator(Signing signing, Keyring keyring) throws SigningException {
+    static PGPPrivateKey extractPrivateKey(Signing signing, Keyring keyring) throws SigningException {
         try {
             PGPSecretKey pgpSecretKey = keyring.getSecretKey();
 
-            PGPPrivateKey pgpPrivKey = pgpSecretKey.extractPrivateKey(
+            return pgpSecretKey.extractPrivateKey(
                 new JcePBESecretKeyDecryptorBuilder()
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME)
                     .build(signing.getResolvedPassphrase().toCharArray()));
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
+    }
 
+    static PGPSignatureGenerator initSignatureGenerator(PGPPrivateKey privateKey) throws SigningException {
+        try {
             PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
-                new JcaPGPContentSignerBuilder(pgpSecretKey.getPublicKey().getAlgorithm(), PGPUtil.SHA1)
+                new JcaPGPContentSignerBuilder(privateKey.getPublicKeyPacket().getAlgorithm(), PGPUtil.SHA1)
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME));
 
-            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, pgpPrivKey);
+            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, privateKey);
 
             return signatureGenerator;
         } catch (PGPException e) {
@@ -424,31 +551,31 @@ public class Signer {
         try {
             context.getLogger().info("{}", context.relativizeToBasedir(input));
 
-            OutputStream out = new BufferedOutputStream(new FileOutputStream(output.toFile()));
-            if (context.getModel().getSigning().isArmored()) {
-                out = new ArmoredOutputStream(out);
+            try (InputStream in = new FileInputStream(input.toFile())) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int length = 0;
+                while ((length = in.read(buffer)) >= 0) {
+                    signatureGenerator.update(buffer, 0, length);
+                }
             }
 
-            PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
-            BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
-
-            FileInputStream in = new FileInputStream(input.toFile());
-
-            byte[] buffer = new byte[8192];
-            int length = 0;
-            while ((length = in.read(buffer)) >= 0) {
-                signatureGenerator.update(buffer, 0, length);
-            }
+            writeSignature(context, signatureGenerator.generate(), output);
+        } catch (IOException | PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
+        }
+    }
 
-            signatureGenerator.generate().encode(bOut);
+    static void writeSignature(JReleaserContext context, PGPSignature signature, Path output) throws IOException {
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(output.toFile()));
+        if (context.getModel().getSigning().isArmored()) {
+            out = new ArmoredOutputStream(out);
+        }
 
+        try (OutputStream o = out) {
+            PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
+            BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(o));
+            signature.encode(bOut);
             compressionStreamGenerator.close();
-
-            in.close();
-            out.flush();
-            out.close();
-        } catch (IOException | PGPException e) {
-            throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
         }
     }
 
@@ -457,6 +584,23 @@ public class Signer {
     }
 
     private static List<FilePair> collectArtifacts(JReleaserContext context, boolean forceSign, Function<FilePair, Boolean> validator) {
+        List<FilePair> files = collectFilePairs(context);
+        Signing signing = context.getModel().getSigning();
+
+        if (!forceSign && !files.isEmpty()) {
+            context.getLogger().setPrefix("verify");
+            try {
+                ConcurrencyUtils.forEach("verify", signing.getResolvedParallelism(), files,
+                    pair -> pair.setValid(validator.apply(pair)));
+            } finally {
+                context.getLogger().restorePrefix();
+            }
+        }
+
+        return files;
+    }
+
+    static List<FilePair> collectFilePairs(JReleaserContext context) {
         List<FilePair> files = new ArrayList<>();
 
         Signing signing = context.getModel().getSigning();
@@ -473,7 +617,6 @@ public class Signer {
                 Path input = artifact.getEffectivePath(context);
                 Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(extension));
                 FilePair pair = new FilePair(input, output);
-                if (!forceSign) pair.setValid(validator.apply(pair));
                 files.add(pair);
             }
         }
@@ -486,7 +629,6 @@ public class Signer {
                     Path input = artifact.getEffectivePath(context, distribution);
                     Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(extension));
                     FilePair pair = new FilePair(input, output);
-                    if (!forceSign) pair.setValid(validator.apply(pair));
                     files.add(pair);
                 }
             }
@@ -499,7 +641,6 @@ public class Signer {
                 if (Files.exists(checksums)) {
                     Path output = signaturesDirectory.resolve(checksums.getFileName().toString().concat(extension));
                     FilePair pair = new FilePair(checksums, output);
-                    if (!forceSign) pair.setValid(validator.apply(pair));
                     files.add(pair);
                 }
             }
@@ -508,7 +649,7 @@ public class Signer {
         return files;
     }
 
-    private static boolean isValid(JReleaserContext context, Cosign cosign, Path publicKeyFile, FilePair pair) {
+    private static boolean isValid(JReleaserContext context, PublicKey publicKey, FilePair pair) {
         if (Files.notExists(pair.getSignatureFile())) {
             context.getLogger().debug(RB.$("signing.signature.not.exist"),
                 context.relativizeToBasedir(pair.getSignatureFile()));
@@ -523,16 +664,15 @@ public class Signer {
         }
 
         try {
-            cosign.verifyBlob(publicKeyFile, pair.signatureFile, pair.inputFile);
-            return true;
+            return CosignSigner.verify(publicKey, pair.signatureFile, pair.inputFile);
         } catch (SigningException e) {
             return false;
         }
     }
 
-    private static boolean isValid(JReleaserContext context, Keyring keyring, FilePair pair) {
+    private static boolean isValid(JReleaserContext context, Keyring keyring, PGPPublicKey publicKey, FilePair pair) {
         if (null == keyring) {
-            return isValid(context, pair);
+            return isValid(context, (PGPPublicKeyRingCollection) null, pair);
         }
 
         if (Files.notExists(pair.getSignatureFile())) {
@@ -549,13 +689,13 @@ public class Signer {
         }
 
         try {
-            return verify(context, keyring, pair);
+            return verify(context, keyring.getKeyFingerPrintCalculator(), keyId -> publicKey, pair);
         } catch (SigningException e) {
             return false;
         }
     }
 
-    private static boolean isValid(JReleaserContext context, FilePair pair) {
+    private static boolean isValid(JReleaserContext context, PGPPublicKeyRingCollection publicKeys, FilePair pair) {
         if (Files.notExists(pair.getSignatureFile())) {
             context.getLogger().debug(RB.$("signing.signature.not.exist"),
                 context.relativizeToBasedir(pair.getSignatureFile()));
@@ -570,13 +710,13 @@ public class Signer {
         }
 
         try {
-            return verify(context, pair);
+            return verify(context, publicKeys, pair);
         } catch (SigningException e) {
             return false;
         }
     }
 
-    private static class FilePair {
+    static class FilePair {
         private final Path inputFile;
         private final Path signatureFile;
         private boolean valid;
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.checksum;
+
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ChecksumIndexTest {
+    private JReleaserContext context;
+    private Path artifact;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        Path basedir = Files.createTempDirectory("checksum-index");
+        context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            basedir,
+            basedir.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+        artifact = Files.write(basedir.resolve("app-1.0.0.zip"), "app".getBytes());
+    }
+
+    @Test
+    public void unchangedArtifactReusesRecordedHashes() throws Exception {
+        // given:
+        ChecksumIndex index = ChecksumIndex.load(context);
+        index.put(artifact, hashes("aaa", "bbb"));
+        index.save();
+
+        // when:
+        Map<Algorithm, String> hashes = ChecksumIndex.load(context)
+            .find(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512));
+
+        // then:
+        assertThat(hashes, equalTo(hashes("aaa", "bbb")));
+    }
+
+    @Test
+    public void unrecordedAlgorithmIsAMiss() throws Exception {
+        // given:
+        ChecksumIndex index = ChecksumIndex.load(context);
+        index.put(artifact, Collections.singletonMap(Algorithm.SHA_256, "aaa"));
+
+        // when:
+        Map<Algorithm, String> hashes = index.find(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512));
+
+        // then:
+        assertThat(hashes, nullValue());
+    }
+
+    @Test
+    public void modifiedArtifactIsAMiss() throws Exception {
+        // given:
+        ChecksumIndex index = ChecksumIndex.load(context);
+        index.put(artifact, hashes("aaa", "bbb"));
+        index.save();
+
+        // when:
+        Files.write(artifact, "application".getBytes());
+        Map<Algorithm, String> resized = ChecksumIndex.load(context)
+            .find(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512));
+
+        index.put(artifact, hashes("ccc", "ddd"));
+        Files.setLastModifiedTime(artifact, FileTime.fromMillis(Files.getLastModifiedTime(artifact).toMillis() - 60_000L));
+        Map<Algorithm, String> touched = index.find(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512));
+
+        // then:
+        assertThat(resized, nullValue());
+        assertThat(touched, nullValue());
+    }
+
+    @Test
+    public void unusedEntriesAreDropped() throws Exception {
+        // given:
+        Path previous = Files.write(artifact.resolveSibling("app-0.9.0.zip"), "old".getBytes());
+        ChecksumIndex index = ChecksumIndex.load(context);
+        index.put(previous, hashes("aaa", "bbb"));
+        index.put(artifact, hashes("ccc", "ddd"));
+        index.save();
+
+        // when:
+        index = ChecksumIndex.load(context);
+        index.find(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512));
+        index.retainUsed();
+        index.save();
+        index = ChecksumIndex.load(context);
+
+        // then:
+        assertThat(index.find(previous, Collections.singletonList(Algorithm.SHA_256)), nullValue());
+        assertThat(index.find(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512)), equalTo(hashes("ccc", "ddd")));
+    }
+
+    @Test
+    public void corruptIndexIsDiscarded() throws Exception {
+        // given:
+        Path indexFile = context.getChecksumsDirectory().resolve(ChecksumIndex.INDEX_FILE_NAME);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, "{\"broken\":".getBytes());
+
+        // when:
+        ChecksumIndex index = ChecksumIndex.load(context);
+        Map<Algorithm, String> miss = index.find(artifact, Collections.singletonList(Algorithm.SHA_256));
+        index.put(artifact, hashes("aaa", "bbb"));
+        index.save();
+        Map<Algorithm, String> hit = ChecksumIndex.load(context)
+            .find(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512));
+
+        // then:
+        assertThat(miss, nullValue());
+        assertThat(hit, equalTo(hashes("aaa", "bbb")));
+    }
+
+    private static Map<Algorithm, String> hashes(String sha256, String sha512) {
+        Map<Algorithm, String> hashes = new LinkedHashMap<>();
+        hashes.put(Algorithm.SHA_256, sha256);
+        hashes.put(Algorithm.SHA_512, sha512);
+        return hashes;
+    }
+}
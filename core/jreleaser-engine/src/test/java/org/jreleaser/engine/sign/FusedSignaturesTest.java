@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.bouncycastle.bcpg.ArmoredOutputStream;
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.bcpg.PublicKeyAlgorithmTags;
+import org.bouncycastle.bcpg.SymmetricKeyAlgorithmTags;
+import org.bouncycastle.crypto.generators.RSAKeyPairGenerator;
+import org.bouncycastle.crypto.params.RSAKeyGenerationParameters;
+import org.bouncycastle.openpgp.PGPCompressedData;
+import org.bouncycastle.openpgp.PGPKeyPair;
+import org.bouncycastle.openpgp.PGPKeyRingGenerator;
+import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureList;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.bc.BcPGPObjectFactory;
+import org.bouncycastle.openpgp.operator.PGPDigestCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyEncryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentVerifierBuilderProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPDigestCalculatorProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPKeyPair;
+import org.jreleaser.engine.checksum.Checksum;
+import org.jreleaser.model.Active;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Github;
+import org.jreleaser.model.JReleaserCommand;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.model.Signing;
+import org.jreleaser.util.JReleaserException;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class FusedSignaturesTest {
+    private static final String PASSPHRASE = "secret";
+
+    private static String publicKey;
+    private static String secretKey;
+
+    @BeforeAll
+    public static void generateKeys() throws Exception {
+        RSAKeyPairGenerator generator = new RSAKeyPairGenerator();
+        generator.init(new RSAKeyGenerationParameters(BigInteger.valueOf(0x10001), new SecureRandom(), 2048, 12));
+        PGPKeyPair keyPair = new BcPGPKeyPair(PublicKeyAlgorithmTags.RSA_GENERAL, generator.generateKeyPair(), new Date());
+        PGPDigestCalculator sha1 = new BcPGPDigestCalculatorProvider().get(HashAlgorithmTags.SHA1);
+
+        PGPKeyRingGenerator keyRings = new PGPKeyRingGenerator(PGPSignature.POSITIVE_CERTIFICATION, keyPair,
+            "Test <test@example.com>", sha1, null, null,
+            new BcPGPContentSignerBuilder(PublicKeyAlgorithmTags.RSA_GENERAL, HashAlgorithmTags.SHA256),
+            new BcPBESecretKeyEncryptorBuilder(SymmetricKeyAlgorithmTags.AES_256, sha1).build(PASSPHRASE.toCharArray()));
+
+        ByteArrayOutputStream pub = new ByteArrayOutputStream();
+        try (OutputStream out = new ArmoredOutputStream(pub)) {
+            keyRings.generatePublicKeyRing().encode(out);
+        }
+        ByteArrayOutputStream sec = new ByteArrayOutputStream();
+        try (OutputStream out = new ArmoredOutputStream(sec)) {
+            keyRings.generateSecretKeyRing().encode(out);
+        }
+        publicKey = pub.toString();
+        secretKey = sec.toString();
+    }
+
+    @Test
+    public void fusedSignatureIsValid() throws Exception {
+        // given:
+        Path basedir = Files.createTempDirectory("fused");
+        Path input = Files.write(basedir.resolve("app-1.0.0.zip"), "app".getBytes());
+        JReleaserContext context = createContext(basedir, input);
+
+        // when:
+        Checksum.collectAndWriteChecksums(context);
+
+        // then:
+        Signer.FilePair pair = pairOf(context);
+        assertTrue(Files.exists(pair.getSignatureFile()));
+        assertTrue(FusedSignatures.isSigned(context, pair));
+        assertTrue(verify(context, pair));
+    }
+
+    @Test
+    public void failedHashingLeavesNoSignature() throws Exception {
+        // given:
+        Path basedir = Files.createTempDirectory("fused");
+        // a directory passes the existence check but cannot be read
+        Path input = Files.createDirectory(basedir.resolve("app-1.0.0.zip"));
+        JReleaserContext context = createContext(basedir, input);
+        Signer.FilePair pair = pairOf(context);
+
+        // when:
+        assertThrows(JReleaserException.class, () -> Checksum.collectAndWriteChecksums(context));
+
+        // then:
+        assertFalse(Files.exists(pair.getSignatureFile()));
+        assertFalse(FusedSignatures.isSigned(context, pair));
+        assertThat(context.getFusedSignatures(), empty());
+    }
+
+    @Test
+    public void unsignedSinkDiscardsTheSignature() throws Exception {
+        // given:
+        Path basedir = Files.createTempDirectory("fused");
+        Path input = Files.write(basedir.resolve("app-1.0.0.zip"), "app".getBytes());
+        JReleaserContext context = createContext(basedir, input);
+        Signer.FilePair pair = pairOf(context);
+        // a signature left behind by a previous run
+        Files.createDirectories(pair.getSignatureFile().getParent());
+        Files.write(pair.getSignatureFile(), "stale".getBytes());
+
+        // when:
+        try (FusedSignatures.Sink sink = FusedSignatures.of(context).open(input)) {
+            sink.write("ap".getBytes());
+        }
+
+        // then:
+        assertThat(new String(Files.readAllBytes(pair.getSignatureFile())), equalTo("stale"));
+        assertFalse(FusedSignatures.isSigned(context, pair));
+    }
+
+    private static JReleaserContext createContext(Path basedir, Path input) {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        Github github = new Github();
+        github.setOwner("acme");
+        github.setName("app");
+        model.getRelease().setGithub(github);
+
+        model.getFiles().setActive(Active.ALWAYS);
+        model.getFiles().resolveEnabled(model.getProject());
+        Artifact artifact = new Artifact();
+        artifact.setPath(input.toAbsolutePath().toString());
+        model.getFiles().addArtifact(artifact);
+
+        Signing signing = model.getSigning();
+        signing.setActive(Active.ALWAYS);
+        signing.resolveEnabled(model.getProject());
+        signing.setMode(Signing.Mode.MEMORY);
+        signing.setArmored(true);
+        signing.setFused(true);
+        signing.setPublicKey(publicKey);
+        signing.setSecretKey(secretKey);
+        signing.setPassphrase(PASSPHRASE);
+
+        JReleaserContext context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.FULL,
+            model,
+            basedir,
+            basedir.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+        context.setCommand(JReleaserCommand.SIGN);
+        return context;
+    }
+
+    private static Signer.FilePair pairOf(JReleaserContext context) {
+        List<Signer.FilePair> pairs = Signer.collectFilePairs(context);
+        assertThat(pairs, hasSize(1));
+        return pairs.get(0);
+    }
+
+    private static boolean verify(JReleaserContext context, Signer.FilePair pair) throws Exception {
+        PGPPublicKey key = context.createKeyring().readPublicKey();
+
+        try (InputStream in = PGPUtil.getDecoderStream(Files.newInputStream(pair.getSignatureFile()))) {
+            Object object = new BcPGPObjectFactory(in).nextObject();
+            if (object instanceof PGPCompressedData) {
+                object = new BcPGPObjectFactory(((PGPCompressedData) object).getDataStream()).nextObject();
+            }
+
+            PGPSignature signature = ((PGPSignatureList) object).get(0);
+            signature.init(new BcPGPContentVerifierBuilderProvider(), key);
+            signature.update(Files.readAllBytes(pair.getInputFile()));
+            return signature.verify();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.jreleaser.model.Active;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Github;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class SignatureManifestTest {
+    private static final String FINGERPRINT = "0123456789abcdef0123456789abcdef01234567";
+
+    private JReleaserContext context;
+    private Path input;
+    private Signer.FilePair pair;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        Path basedir = Files.createTempDirectory("manifest");
+        input = Files.write(basedir.resolve("app-1.0.0.zip"), "app".getBytes());
+        context = createContext(basedir, input);
+
+        List<Signer.FilePair> pairs = Signer.collectFilePairs(context);
+        assertThat(pairs, hasSize(1));
+        pair = pairs.get(0);
+        pair.setValid(true);
+        Files.createDirectories(pair.getSignatureFile().getParent());
+        Files.write(pair.getSignatureFile(), "signature".getBytes());
+
+        SignatureManifest.load(context, FINGERPRINT).update(pairs);
+    }
+
+    @Test
+    public void unchangedSignatureIsUpToDate() {
+        // expect:
+        assertTrue(SignatureManifest.load(context, FINGERPRINT).isUpToDate(pair));
+    }
+
+    @Test
+    public void changedInputIsVerifiedAgain() throws Exception {
+        // when:
+        Files.write(input, "application".getBytes());
+
+        // then:
+        assertFalse(SignatureManifest.load(context, FINGERPRINT).isUpToDate(pair));
+    }
+
+    @Test
+    public void changedKeyIsVerifiedAgain() {
+        // expect:
+        assertFalse(SignatureManifest.load(context, "fedcba9876543210fedcba9876543210fedcba98").isUpToDate(pair));
+        assertFalse(SignatureManifest.load(context, null).isUpToDate(pair));
+    }
+
+    @Test
+    public void changedSignatureIsVerifiedAgain() throws Exception {
+        // when:
+        Files.write(pair.getSignatureFile(), "tampered".getBytes());
+
+        // then:
+        assertFalse(SignatureManifest.load(context, FINGERPRINT).isUpToDate(pair));
+    }
+
+    @Test
+    public void missingSignatureIsVerifiedAgain() throws Exception {
+        // when:
+        Files.delete(pair.getSignatureFile());
+
+        // then:
+        assertFalse(SignatureManifest.load(context, FINGERPRINT).isUpToDate(pair));
+    }
+
+    private static JReleaserContext createContext(Path basedir, Path input) {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        Github github = new Github();
+        github.setOwner("acme");
+        github.setName("app");
+        model.getRelease().setGithub(github);
+
+        model.getFiles().setActive(Active.ALWAYS);
+        model.getFiles().resolveEnabled(model.getProject());
+        Artifact artifact = new Artifact();
+        artifact.setPath(input.toAbsolutePath().toString());
+        model.getFiles().addArtifact(artifact);
+
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.FULL,
+            model,
+            basedir,
+            basedir.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+    }
+}
@@ -34,6 +34,7 @@ public class Archive extends AbstractAssembler<Archive> {
     public static final String TYPE = "archive";
 
     private final Set<Format> formats = new LinkedHashSet<>();
+    private final Compression compression = new Compression();
 
     private String archiveName;
     private Boolean attachPlatform;
@@ -63,6 +64,7 @@ public class Archive extends AbstractAssembler<Archive> {
         this.distributionType = merge(archive.distributionType, archive.distributionType);
         this.attachPlatform = merge(archive.attachPlatform, archive.attachPlatform);
         setFormats(merge(this.formats, archive.formats));
+        setCompression(archive.compression);
     }
 
     public String getResolvedArchiveName(JReleaserContext context) {
@@ -75,6 +77,14 @@ public class Archive extends AbstractAssembler<Archive> {
         return result;
     }
 
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression.merge(compression);
+    }
+
     public String getArchiveName() {
         return archiveName;
     }
@@ -118,6 +128,7 @@ public class Archive extends AbstractAssembler<Archive> {
         props.put("distributionType", distributionType);
         props.put("attachPlatform", isAttachPlatform());
         props.put("formats", formats);
+        props.put("compression", compression.asMap(full));
     }
 
     public enum Format {
@@ -126,9 +137,11 @@ public class Archive extends AbstractAssembler<Archive> {
         TAR_BZ2("tar.bz2"),
         TAR_GZ("tar.gz"),
         TAR_XZ("tar.xz"),
+        TAR_ZST("tar.zst"),
         TBZ2("tbz2"),
         TGZ("tgz"),
-        TXZ("txz");
+        TXZ("txz"),
+        TZST("tzst");
 
         private final String extension;
 
@@ -20,6 +20,7 @@ package org.jreleaser.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.jreleaser.util.Env;
 import org.jreleaser.util.JReleaserException;
+import org.jreleaser.util.StagingStrategy;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,6 +46,7 @@ public class Assemble extends AbstractModelObject<Assemble> implements Domain, A
     private final Map<String, NativeImage> nativeImage = new LinkedHashMap<>();
 
     private Active active;
+    private StagingStrategy staging;
     @JsonIgnore
     private boolean enabled = true;
 
@@ -52,6 +54,7 @@ public class Assemble extends AbstractModelObject<Assemble> implements Domain, A
     public void merge(Assemble assemble) {
         this.active = merge(this.active, assemble.active);
         this.enabled = merge(this.enabled, assemble.enabled);
+        this.staging = merge(this.staging, assemble.staging);
         setArchive(mergeModel(this.archive, assemble.archive));
         setJlink(mergeModel(this.jlink, assemble.jlink));
         setJpackage(mergeModel(this.jpackage, assemble.jpackage));
@@ -104,6 +107,22 @@ public class Assemble extends AbstractModelObject<Assemble> implements Domain, A
         return active != null;
     }
 
+    public StagingStrategy getStaging() {
+        return staging;
+    }
+
+    public void setStaging(StagingStrategy staging) {
+        this.staging = staging;
+    }
+
+    public void setStaging(String str) {
+        this.staging = StagingStrategy.of(str);
+    }
+
+    public StagingStrategy getResolvedStaging() {
+        return null != staging ? staging : StagingStrategy.COPY;
+    }
+
     public List<Archive> getActiveArchives() {
         return archive.values().stream()
             .filter(Archive::isEnabled)
@@ -197,6 +216,7 @@ public class Assemble extends AbstractModelObject<Assemble> implements Domain, A
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", active);
+        map.put("staging", getResolvedStaging());
 
         List<Map<String, Object>> archive = this.archive.values()
             .stream()
@@ -24,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
+import static org.jreleaser.util.ConcurrencyUtils.resolveParallelism;
 import static org.jreleaser.util.Templates.resolveTemplate;
 
 /**
@@ -38,12 +39,14 @@ public class Checksum extends AbstractModelObject<Checksum> implements Domain {
     private Boolean individual;
     private String name;
     private Boolean files;
+    private Integer parallelism;
 
     @Override
     public void merge(Checksum checksum) {
         this.name = merge(this.name, checksum.name);
         this.individual = merge(this.individual, checksum.individual);
         this.files = merge(this.files, checksum.files);
+        this.parallelism = merge(this.parallelism, checksum.parallelism);
         setAlgorithms(merge(this.algorithms, checksum.algorithms));
     }
 
@@ -106,6 +109,18 @@ public class Checksum extends AbstractModelObject<Checksum> implements Domain {
         this.files = files;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getResolvedParallelism() {
+        return resolveParallelism(parallelism);
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> props = new LinkedHashMap<>();
@@ -113,6 +128,7 @@ public class Checksum extends AbstractModelObject<Checksum> implements Domain {
         props.put("individual", isIndividual());
         props.put("algorithms", algorithms);
         props.put("files", isFiles());
+        props.put("parallelism", getResolvedParallelism());
         return props;
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model;
+
+import org.jreleaser.util.CompressionOptions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class Compression extends AbstractModelObject<Compression> implements Domain {
+    private Integer level;
+    private Integer blockSize;
+    private Boolean storeOnly;
+
+    @Override
+    public void merge(Compression compression) {
+        this.level = merge(this.level, compression.level);
+        this.blockSize = merge(this.blockSize, compression.blockSize);
+        this.storeOnly = merge(this.storeOnly, compression.storeOnly);
+    }
+
+    public boolean isSet() {
+        return null != level || null != blockSize || null != storeOnly;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+
+    public Integer getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(Integer blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public Boolean isStoreOnly() {
+        return storeOnly != null && storeOnly;
+    }
+
+    public void setStoreOnly(Boolean storeOnly) {
+        this.storeOnly = storeOnly;
+    }
+
+    public boolean isStoreOnlySet() {
+        return storeOnly != null;
+    }
+
+    public CompressionOptions asOptions() {
+        return CompressionOptions.of(level, blockSize, isStoreOnly());
+    }
+
+    @Override
+    public Map<String, Object> asMap(boolean full) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("level", level);
+        props.put("blockSize", blockSize);
+        props.put("storeOnly", isStoreOnly());
+        return props;
+    }
+}
@@ -24,6 +24,7 @@ import org.jreleaser.util.Constants;
 import org.jreleaser.util.Errors;
 import org.jreleaser.util.JReleaserException;
 import org.jreleaser.util.JReleaserLogger;
+import org.jreleaser.util.MustacheUtils;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.SemVer;
 import org.jreleaser.util.StringUtils;
@@ -46,6 +47,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.jreleaser.util.CollectionUtils.safePut;
@@ -90,6 +92,8 @@ public class JReleaserContext {
     private final boolean gitRootSearch;
     private final Mode mode;
     private final Configurer configurer;
+    // Env.* variables resolved by the templates of this run
+    private final Map<String, String> environment;
     private final Errors errors = new Errors();
     private final List<String> selectedPlatforms = new ArrayList<>();
     private final List<String> includedAnnouncers = new ArrayList<>();
@@ -108,6 +112,8 @@ public class JReleaserContext {
     private final List<String> excludedDownloaderNames = new ArrayList<>();
     private final List<String> excludedUploaderTypes = new ArrayList<>();
     private final List<String> excludedUploaderNames = new ArrayList<>();
+    // inputs signed while their checksums were computed
+    private final Set<Path> fusedSignatures = ConcurrentHashMap.newKeySet();
 
     private String changelog;
     private Releaser releaser;
@@ -130,6 +136,7 @@ public class JReleaserContext {
         this.outputDirectory = outputDirectory;
         this.dryrun = dryrun;
         this.gitRootSearch = gitRootSearch;
+        this.environment = MustacheUtils.snapshotEnvironment();
         this.selectedPlatforms.addAll(selectedPlatforms.stream()
             .filter(PlatformUtils::isSupported)
             .collect(Collectors.toList()));
@@ -509,6 +516,14 @@ public class JReleaserContext {
         this.excludedUploaderNames.addAll(excludedUploaderNames);
     }
 
+    public Set<Path> getFusedSignatures() {
+        return fusedSignatures;
+    }
+
+    public Map<String, String> getEnvironment() {
+        return environment;
+    }
+
     public JReleaserCommand getCommand() {
         return command;
     }
@@ -528,6 +543,7 @@ public class JReleaserContext {
         props.put(Constants.KEY_DOWNLOAD_DIRECTORY, getDownloadDirectory());
         props.put(Constants.KEY_ASSEMBLE_DIRECTORY, getAssembleDirectory());
         props.put(Constants.KEY_ARTIFACTS_DIRECTORY, getArtifactsDirectory());
+        props.put(Constants.KEY_ENVIRONMENT, environment);
         return props;
     }
 
@@ -41,6 +41,7 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
     private final List<String> args = new ArrayList<>();
     private final Artifact jdk = new Artifact();
     private final Jdeps jdeps = new Jdeps();
+    private final Compression compression = new Compression();
 
     private String imageName;
     private String imageNameTransform;
@@ -63,6 +64,7 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
         this.copyJars = merge(this.copyJars, jlink.copyJars);
         setJdeps(jlink.jdeps);
         setJdk(jlink.jdk);
+        setCompression(jlink.compression);
         setTargetJdks(merge(this.targetJdks, jlink.targetJdks));
         setModuleNames(merge(this.moduleNames, jlink.moduleNames));
         setAdditionalModuleNames(merge(this.additionalModuleNames, jlink.additionalModuleNames));
@@ -90,6 +92,14 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
         this.jdeps.merge(jdeps);
     }
 
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression.merge(compression);
+    }
+
     public Artifact getJdk() {
         return jdk;
     }
@@ -230,6 +240,7 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
         props.put("additionalModuleNames", additionalModuleNames);
         props.put("args", args);
         props.put("jdeps", jdeps.asMap(full));
+        props.put("compression", compression.asMap(full));
         Map<String, Map<String, Object>> mappedJdks = new LinkedHashMap<>();
         int i = 0;
         for (Artifact targetJdk : getTargetJdks()) {
@@ -46,6 +46,7 @@ public class NativeImage extends AbstractJavaAssembler<NativeImage> {
     private final Linux linux = new Linux();
     private final Windows windows = new Windows();
     private final Osx osx = new Osx();
+    private final Compression compression = new Compression();
 
     private String imageName;
     private String imageNameTransform;
@@ -66,6 +67,7 @@ public class NativeImage extends AbstractJavaAssembler<NativeImage> {
         this.imageName = merge(this.imageName, nativeImage.imageName);
         this.imageNameTransform = merge(this.imageNameTransform, nativeImage.imageNameTransform);
         this.archiveFormat = merge(this.archiveFormat, nativeImage.archiveFormat);
+        setCompression(nativeImage.compression);
         setGraal(nativeImage.graal);
         setGraalJdks(merge(this.graalJdks, nativeImage.graalJdks));
         setArgs(merge(this.args, nativeImage.args));
@@ -114,6 +116,14 @@ public class NativeImage extends AbstractJavaAssembler<NativeImage> {
         this.imageNameTransform = imageNameTransform;
     }
 
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression.merge(compression);
+    }
+
     public Archive.Format getArchiveFormat() {
         return archiveFormat;
     }
@@ -215,6 +225,7 @@ public class NativeImage extends AbstractJavaAssembler<NativeImage> {
         super.asMap(full, props);
         props.put("imageName", imageName);
         props.put("imageNameTransform", imageNameTransform);
+        props.put("compression", compression.asMap(full));
         props.put("archiveFormat", archiveFormat);
         Map<String, Map<String, Object>> mappedJdks = new LinkedHashMap<>();
         int i = 0;
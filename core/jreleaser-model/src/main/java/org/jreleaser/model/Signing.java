@@ -29,6 +29,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.jreleaser.util.ConcurrencyUtils.resolveParallelism;
 import static org.jreleaser.util.Constants.HIDE;
 import static org.jreleaser.util.Constants.UNSET;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -65,6 +66,8 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
+    private Integer parallelism;
+    private Boolean fused;
 
     @Override
     public void merge(Signing signing) {
@@ -78,6 +81,8 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
         this.artifacts = merge(this.artifacts, signing.artifacts);
         this.files = merge(this.files, signing.files);
         this.checksums = merge(this.checksums, signing.checksums);
+        this.parallelism = merge(this.parallelism, signing.parallelism);
+        this.fused = merge(this.fused, signing.fused);
         setCommand(signing.command);
         setCosign(signing.cosign);
     }
@@ -243,6 +248,30 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
         this.cosign.merge(cosign);
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getResolvedParallelism() {
+        return resolveParallelism(parallelism);
+    }
+
+    public Boolean isFused() {
+        return fused != null && fused;
+    }
+
+    public void setFused(Boolean fused) {
+        this.fused = fused;
+    }
+
+    public boolean isFusedSet() {
+        return fused != null;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         if (!full && !isEnabled()) return Collections.emptyMap();
@@ -255,6 +284,8 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
         props.put("checksums", isChecksums());
+        props.put("parallelism", getResolvedParallelism());
+        props.put("fused", isFused());
         props.put("passphrase", isNotBlank(passphrase) ? HIDE : UNSET);
 
         if (mode == Mode.COMMAND) {
@@ -303,6 +334,7 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
         private String homeDir;
         private String publicKeyring;
         private Boolean defaultKeyring;
+        private Boolean verifyInProcess;
 
         @Override
         public void merge(Command command) {
@@ -311,6 +343,7 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
             this.homeDir = merge(this.homeDir, command.homeDir);
             this.publicKeyring = merge(this.publicKeyring, command.publicKeyring);
             this.defaultKeyring = merge(this.defaultKeyring, command.defaultKeyring);
+            this.verifyInProcess = merge(this.verifyInProcess, command.verifyInProcess);
             setArgs(merge(this.args, command.args));
         }
 
@@ -358,6 +391,18 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
             this.defaultKeyring = defaultKeyring;
         }
 
+        public boolean isVerifyInProcessSet() {
+            return verifyInProcess != null;
+        }
+
+        public Boolean isVerifyInProcess() {
+            return verifyInProcess != null && verifyInProcess;
+        }
+
+        public void setVerifyInProcess(Boolean verifyInProcess) {
+            this.verifyInProcess = verifyInProcess;
+        }
+
         public List<String> getArgs() {
             return args;
         }
@@ -392,6 +437,7 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
             props.put("homeDir", homeDir);
             props.put("publicKeyring", publicKeyring);
             props.put("defaultKeyring", isDefaultKeyring());
+            props.put("verifyInProcess", isVerifyInProcess());
             props.put("args", args);
 
             return props;
@@ -32,6 +32,7 @@ import org.jreleaser.model.SdkmanAnnouncer;
 import org.jreleaser.model.Upload;
 import org.jreleaser.model.Uploader;
 import org.jreleaser.util.FileType;
+import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.JReleaserException;
 import org.jreleaser.util.JReleaserLogger;
 
@@ -438,7 +439,7 @@ public class Artifacts {
     public static void copyFile(JReleaserContext context, Path src, Path dest) throws JReleaserException {
         try {
             java.nio.file.Files.createDirectories(dest.getParent());
-            java.nio.file.Files.copy(src, dest, REPLACE_EXISTING, COPY_ATTRIBUTES);
+            FileUtils.stageFile(src, dest, context.getModel().getAssemble().getResolvedStaging(), REPLACE_EXISTING, COPY_ATTRIBUTES);
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_copying",
                 context.relativizeToBasedir(src),
@@ -72,6 +72,8 @@ public abstract class ArchiveValidator extends Validator {
         if (archive.getFormats().isEmpty()) {
             archive.addFormat(Archive.Format.ZIP);
         }
+        validateCompression(archive.getCompression(), archive.getFormats(),
+            "archive." + archive.getName() + ".compression", errors);
 
         if (archive.getFileSets().isEmpty()) {
             errors.configuration(RB.$("validation_archive_empty_fileset", archive.getName()));
@@ -19,6 +19,7 @@ package org.jreleaser.model.validation;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Active;
+import org.jreleaser.model.Archive;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.FileSet;
 import org.jreleaser.model.JReleaserContext;
@@ -31,8 +32,10 @@ import org.jreleaser.util.PlatformUtils;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toSet;
 import static org.jreleaser.model.validation.TemplateValidator.validateTemplate;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -87,6 +90,14 @@ public abstract class JlinkValidator extends Validator {
             validateJdk(context, mode, jlink, targetJdk, i++, errors);
         }
 
+        Set<Archive.Format> archiveFormats = jlink.getTargetJdks().stream()
+            .map(jdk -> Archive.Format.of(jdk.getExtraProperties()
+                .getOrDefault("archiveFormat", "ZIP")
+                .toString()))
+            .collect(toSet());
+        validateCompression(jlink.getCompression(), archiveFormats,
+            "jlink." + jlink.getName() + ".compression", errors);
+
         // validate jdks.platform is unique
         Map<String, List<Artifact>> byPlatform = jlink.getTargetJdks().stream()
             .collect(groupingBy(jdk -> isBlank(jdk.getPlatform()) ? "<nil>" : jdk.getPlatform()));
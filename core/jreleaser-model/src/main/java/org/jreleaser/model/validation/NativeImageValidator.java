@@ -28,6 +28,7 @@ import org.jreleaser.model.Platform;
 import org.jreleaser.util.Errors;
 import org.jreleaser.util.PlatformUtils;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -140,6 +141,8 @@ public abstract class NativeImageValidator extends Validator {
         if (null == nativeImage.getArchiveFormat()) {
             nativeImage.setArchiveFormat(Archive.Format.ZIP);
         }
+        validateCompression(nativeImage.getCompression(), Collections.singleton(nativeImage.getArchiveFormat()),
+            "nativeImage." + nativeImage.getName() + ".compression", errors);
 
         validateGlobs(context,
             nativeImage.getJars(),
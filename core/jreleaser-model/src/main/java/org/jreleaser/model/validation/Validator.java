@@ -18,9 +18,11 @@
 package org.jreleaser.model.validation;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Archive;
 import org.jreleaser.model.Assembler;
 import org.jreleaser.model.CommitAuthor;
 import org.jreleaser.model.CommitAuthorAware;
+import org.jreleaser.model.Compression;
 import org.jreleaser.model.Distribution;
 import org.jreleaser.model.Environment;
 import org.jreleaser.model.FileSet;
@@ -44,6 +46,8 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 class Validator {
+    private static final int MIN_COMPRESSION_BLOCK_SIZE = 32 * 1024;
+
     static String checkProperty(JReleaserContext context, String key, String property, String value, Errors errors) {
         if (isNotBlank(value)) return value;
         Environment environment = context.getModel().getEnvironment();
@@ -248,4 +252,36 @@ class Validator {
             errors.configuration(RB.$("validation_must_not_be_null", assembler.getType() + "." + assembler.getName() + ".fileSet[" + index + "].input"));
         }
     }
+
+    static void validateCompression(Compression compression, Collection<Archive.Format> formats, String property, Errors errors) {
+        if (null != compression.getLevel()) {
+            int level = compression.getLevel();
+            for (Archive.Format format : formats) {
+                int min = 0;
+                int max = 9;
+                switch (format) {
+                    case TAR:
+                        continue;
+                    case TBZ2:
+                    case TAR_BZ2:
+                        min = 1;
+                        break;
+                    case TZST:
+                    case TAR_ZST:
+                        min = 1;
+                        max = 22;
+                        break;
+                    default:
+                        break;
+                }
+                if (level < min || level > max) {
+                    errors.configuration(RB.$("validation_compression_level", property + ".level", level, format, min, max));
+                }
+            }
+        }
+
+        if (null != compression.getBlockSize() && compression.getBlockSize() < MIN_COMPRESSION_BLOCK_SIZE) {
+            errors.configuration(RB.$("validation_compression_block_size", property + ".blockSize", MIN_COMPRESSION_BLOCK_SIZE));
+        }
+    }
 }
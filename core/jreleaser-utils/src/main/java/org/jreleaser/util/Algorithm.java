@@ -36,7 +36,9 @@ public enum Algorithm {
     SHA3_224,
     SHA3_256,
     SHA3_384,
-    SHA3_512;
+    SHA3_512,
+    BLAKE3,
+    XXH3;
 
     public String formatted() {
         if (name().startsWith("SHA3")) {
@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.utils.IOUtils;
+import org.jreleaser.bundle.RB;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Extracts archives with several writer threads.
+ * <p>
+ * ZIP entries are listed from the central directory and inflated concurrently. Tar entries are
+ * read sequentially, small files are buffered and handed to writer threads while larger ones
+ * are streamed to disk on the calling thread. Directories and symbolic links are always created
+ * on the calling thread, in archive order.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+final class ArchiveExtractor {
+    private static final int MAX_BUFFERED_ENTRY_SIZE = 1024 * 1024;
+
+    private ArchiveExtractor() {
+        // prevent instantiation
+    }
+
+    static void unpack(String basename, File destinationDir, ZipFile zipFile) throws IOException {
+        // later entries win, as they did when extracting sequentially
+        Map<File, ZipArchiveEntry> files = new LinkedHashMap<>();
+
+        Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+        while (entries.hasMoreElements()) {
+            ZipArchiveEntry entry = entries.nextElement();
+            if (!zipFile.canReadEntryData(entry)) {
+                // log something?
+                continue;
+            }
+
+            File file = resolveFile(basename, destinationDir, entry);
+            if (entry.isDirectory()) {
+                mkdirs(file);
+            } else {
+                mkdirs(file.getParentFile());
+
+                if (entry.isUnixSymlink()) {
+                    Files.createSymbolicLink(file.toPath(), Paths.get(zipFile.getUnixSymlink(entry)));
+                } else {
+                    files.remove(file);
+                    files.put(file, entry);
+                }
+            }
+        }
+
+        ConcurrencyUtils.forEach("unpack", ConcurrencyUtils.resolveParallelism(null), files.entrySet(), file -> {
+            try (InputStream in = zipFile.getInputStream(file.getValue())) {
+                write(in, file.getKey(), file.getValue());
+            }
+        });
+    }
+
+    static void unpack(String basename, File destinationDir, ArchiveInputStream in) throws IOException {
+        int threads = ConcurrencyUtils.resolveParallelism(null);
+        ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads, new ConcurrencyUtils.NamedThreadFactory("unpack")) : null;
+        Deque<Future<?>> pending = new ArrayDeque<>();
+        Set<File> submitted = new HashSet<>();
+
+        try {
+            ArchiveEntry entry = null;
+            while ((entry = in.getNextEntry()) != null) {
+                if (!in.canReadEntryData(entry)) {
+                    // log something?
+                    continue;
+                }
+
+                File file = resolveFile(basename, destinationDir, entry);
+                if (entry.isDirectory()) {
+                    mkdirs(file);
+                    continue;
+                }
+
+                mkdirs(file.getParentFile());
+                if (!submitted.add(file)) {
+                    // a later entry replaces an earlier one, which must be written first
+                    awaitAll(pending);
+                }
+
+                if (isSymbolicLink(entry)) {
+                    Files.createSymbolicLink(file.toPath(), Paths.get(getLinkName(in, entry)));
+                } else if (null != executor && entry.getSize() >= 0 && entry.getSize() <= MAX_BUFFERED_ENTRY_SIZE) {
+                    byte[] data = IOUtils.toByteArray(in);
+                    ArchiveEntry archiveEntry = entry;
+                    pending.add(executor.submit(() -> {
+                        write(new ByteArrayInputStream(data), file, archiveEntry);
+                        return null;
+                    }));
+                    if (pending.size() >= threads * 2) {
+                        await(pending.removeFirst());
+                    }
+                } else {
+                    write(in, file, entry);
+                }
+            }
+
+            awaitAll(pending);
+        } finally {
+            // writer tasks must not touch the destination once this method returns
+            if (null != executor) ConcurrencyUtils.shutdown(executor);
+        }
+    }
+
+    private static File resolveFile(String basename, File destinationDir, ArchiveEntry entry) throws IOException {
+        String entryName = entry.getName();
+        if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
+            entryName = entryName.substring(basename.length());
+        }
+
+        File file = new File(destinationDir, entryName);
+        String destDirPath = destinationDir.getCanonicalPath();
+        String destFilePath = file.getCanonicalPath();
+        if (!destFilePath.startsWith(destDirPath + File.separator)) {
+            throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
+        }
+
+        return file;
+    }
+
+    private static void mkdirs(File dir) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException(RB.$("ERROR_files_unpack_fail_dir", dir));
+        }
+    }
+
+    private static void write(InputStream in, File file, ArchiveEntry entry) throws IOException {
+        try (OutputStream o = Files.newOutputStream(file.toPath())) {
+            IOUtils.copy(in, o);
+        }
+        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
+        FileUtils.chmod(file, getEntryMode(entry, file));
+    }
+
+    private static void awaitAll(Deque<Future<?>> pending) throws IOException {
+        while (!pending.isEmpty()) {
+            await(pending.removeFirst());
+        }
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private static boolean isSymbolicLink(ArchiveEntry entry) {
+        if (entry instanceof ZipArchiveEntry) {
+            return ((ZipArchiveEntry) entry).isUnixSymlink();
+        } else if (entry instanceof TarArchiveEntry) {
+            return ((TarArchiveEntry) entry).isSymbolicLink();
+        }
+        return false;
+    }
+
+    private static String getLinkName(ArchiveInputStream in, ArchiveEntry entry) throws IOException {
+        if (entry instanceof ZipArchiveEntry) {
+            try (OutputStream o = new ByteArrayOutputStream()) {
+                IOUtils.copy(in, o);
+                return o.toString();
+            }
+        } else if (entry instanceof TarArchiveEntry) {
+            return ((TarArchiveEntry) entry).getLinkName();
+        }
+        return "";
+    }
+
+    private static int getEntryMode(ArchiveEntry entry, File file) {
+        if (entry instanceof TarArchiveEntry) {
+            return getEntryMode(entry, ((TarArchiveEntry) entry).getMode(), file);
+        }
+        return getEntryMode(entry, ((ZipArchiveEntry) entry).getUnixMode(), file);
+    }
+
+    private static int getEntryMode(ArchiveEntry entry, int mode, File file) {
+        int unixMode = mode & 0777;
+        if (unixMode == 0) {
+            if (entry.isDirectory()) {
+                unixMode = 0755;
+            } else if ("bin".equalsIgnoreCase(file.getParentFile().getName())) {
+                // zipEntry.unixMode returns 0 most times even if the entry is executable
+                // force executable bit only if parent dir == 'bin'
+                unixMode = 0777;
+            } else {
+                unixMode = 0644;
+            }
+        }
+        return unixMode;
+    }
+}
@@ -19,16 +19,32 @@ package org.jreleaser.util;
 
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.bouncycastle.crypto.digests.Blake3Digest;
 import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ChecksumUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHANNEL_BUFFER_SIZE = 1024 * 1024;
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -61,8 +77,193 @@ public class ChecksumUtils {
                 return DigestUtils.sha3_384Hex(data);
             case SHA3_512:
                 return DigestUtils.sha3_512Hex(data);
+            case BLAKE3:
+            case XXH3:
+                Digester digester = digester(algorithm);
+                digester.update(data, 0, data.length);
+                return digester.hex();
             default:
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    public static String checksum(Algorithm algorithm, InputStream in) throws IOException {
+        return checksum(Collections.singletonList(algorithm), in).get(algorithm);
+    }
+
+    public static String checksum(Algorithm algorithm, Path input) throws IOException {
+        return checksum(Collections.singletonList(algorithm), input).get(algorithm);
+    }
+
+    /**
+     * Computes all given algorithms in a single pass over the file.
+     * The file is read through a {@code FileChannel} in fixed-size windows,
+     * heap usage does not depend on the size of the file.
+     */
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, Path input) throws IOException {
+        return checksum(algorithms, input, null);
+    }
+
+    /**
+     * Computes all given algorithms in a single pass over the file, copying every
+     * chunk that was read to {@code tee} as well. The stream is not closed.
+     */
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, Path input, OutputStream tee) throws IOException {
+        Map<Algorithm, Digester> digesters = digesters(algorithms);
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            int size = (int) Math.max(Math.min(channel.size(), CHANNEL_BUFFER_SIZE), 1);
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            byte[] data = buffer.array();
+            while (channel.read(buffer) != -1) {
+                if (buffer.position() == 0) continue;
+                for (Digester digester : digesters.values()) {
+                    digester.update(data, 0, buffer.position());
+                }
+                if (null != tee) {
+                    tee.write(data, 0, buffer.position());
+                }
+                buffer.clear();
+            }
+        }
+
+        return hex(digesters);
+    }
+
+    /**
+     * Computes all given algorithms in a single pass over the stream.
+     * The stream is read in fixed-size chunks and never fully buffered.
+     */
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, InputStream in) throws IOException {
+        Map<Algorithm, Digester> digesters = digesters(algorithms);
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (Digester digester : digesters.values()) {
+                digester.update(buffer, 0, read);
+            }
+        }
+
+        return hex(digesters);
+    }
+
+    private static Map<Algorithm, Digester> digesters(Collection<Algorithm> algorithms) throws IOException {
+        Map<Algorithm, Digester> digesters = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            digesters.put(algorithm, digester(algorithm));
+        }
+        return digesters;
+    }
+
+    private static Map<Algorithm, String> hex(Map<Algorithm, Digester> digesters) {
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        for (Map.Entry<Algorithm, Digester> e : digesters.entrySet()) {
+            checksums.put(e.getKey(), e.getValue().hex());
+        }
+        return checksums;
+    }
+
+    static Digester digester(Algorithm algorithm) throws IOException {
+        switch (algorithm) {
+            case MD2:
+                return new MessageDigester(MessageDigestAlgorithms.MD2);
+            case MD5:
+                return new MessageDigester(MessageDigestAlgorithms.MD5);
+            case RMD160:
+                return new RipeMd160Digester();
+            case SHA_1:
+                return new MessageDigester(MessageDigestAlgorithms.SHA_1);
+            case SHA_256:
+                return new MessageDigester(MessageDigestAlgorithms.SHA_256);
+            case SHA_384:
+                return new MessageDigester(MessageDigestAlgorithms.SHA_384);
+            case SHA_512:
+                return new MessageDigester(MessageDigestAlgorithms.SHA_512);
+            case SHA3_224:
+                return new MessageDigester(MessageDigestAlgorithms.SHA3_224);
+            case SHA3_256:
+                return new MessageDigester(MessageDigestAlgorithms.SHA3_256);
+            case SHA3_384:
+                return new MessageDigester(MessageDigestAlgorithms.SHA3_384);
+            case SHA3_512:
+                return new MessageDigester(MessageDigestAlgorithms.SHA3_512);
+            case BLAKE3:
+                return new Blake3Digester();
+            case XXH3:
+                return new Xxh3Digester();
+            default:
+                throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+        }
+    }
+
+    interface Digester {
+        void update(byte[] data, int offset, int length);
+
+        String hex();
+    }
+
+    private static class MessageDigester implements Digester {
+        private final MessageDigest digest;
+
+        private MessageDigester(String name) {
+            this.digest = DigestUtils.getDigest(name);
+        }
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            digest.update(data, offset, length);
+        }
+
+        @Override
+        public String hex() {
+            return Hex.encodeHexString(digest.digest());
+        }
+    }
+
+    private static class RipeMd160Digester implements Digester {
+        private final RIPEMD160Digest digest = new RIPEMD160Digest();
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            digest.update(data, offset, length);
+        }
+
+        @Override
+        public String hex() {
+            byte[] output = new byte[digest.getDigestSize()];
+            digest.doFinal(output, 0);
+            return Hex.encodeHexString(output);
+        }
+    }
+
+    private static class Blake3Digester implements Digester {
+        private final Blake3Digest digest = new Blake3Digest();
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            digest.update(data, offset, length);
+        }
+
+        @Override
+        public String hex() {
+            byte[] output = new byte[digest.getDigestSize()];
+            digest.doFinal(output, 0);
+            return Hex.encodeHexString(output);
+        }
+    }
+
+    private static class Xxh3Digester implements Digester {
+        private final Xxh3Digest digest = new Xxh3Digest();
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            digest.update(data, offset, length);
+        }
+
+        @Override
+        public String hex() {
+            return String.format("%016x", digest.digest());
+        }
+    }
 }
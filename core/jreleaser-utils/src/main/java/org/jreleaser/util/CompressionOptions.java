@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+/**
+ * Compression settings applied when packing archives. Unset values select the defaults of
+ * each format. Store only disables compression where the format allows it (ZIP entries,
+ * gzip) and selects the fastest setting otherwise.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public final class CompressionOptions {
+    public static final CompressionOptions DEFAULTS = new CompressionOptions(null, null, false, null);
+
+    private final Integer level;
+    private final Integer blockSize;
+    private final boolean storeOnly;
+    private final Integer threads;
+
+    private CompressionOptions(Integer level, Integer blockSize, boolean storeOnly, Integer threads) {
+        this.level = level;
+        this.blockSize = blockSize;
+        this.storeOnly = storeOnly;
+        this.threads = threads;
+    }
+
+    public static CompressionOptions of(Integer level, Integer blockSize, boolean storeOnly) {
+        return new CompressionOptions(level, blockSize, storeOnly, null);
+    }
+
+    public CompressionOptions withThreads(Integer threads) {
+        return new CompressionOptions(level, blockSize, storeOnly, threads);
+    }
+
+    public int getLevel(int defaultLevel) {
+        return null != level ? level : defaultLevel;
+    }
+
+    public int getBlockSize(int defaultBlockSize) {
+        return null != blockSize ? blockSize : defaultBlockSize;
+    }
+
+    public boolean isStoreOnly() {
+        return storeOnly;
+    }
+
+    /**
+     * Number of threads compressing concurrently, defaults to the number of available processors.
+     */
+    public int getThreads() {
+        return ConcurrencyUtils.resolveParallelism(threads);
+    }
+}
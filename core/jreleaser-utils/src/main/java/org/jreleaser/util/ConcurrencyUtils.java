@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent units of work on a bounded pool of threads.
+ * Results are always returned in input order regardless of completion order.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public final class ConcurrencyUtils {
+    private ConcurrencyUtils() {
+        // prevent instantiation
+    }
+
+    /**
+     * Resolves a configured degree of parallelism, defaulting to the number
+     * of available processors when unset or not positive.
+     */
+    public static int resolveParallelism(Integer parallelism) {
+        if (null == parallelism || parallelism < 1) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return parallelism;
+    }
+
+    public static <T, E extends Exception> void forEach(String name, int parallelism, Collection<T> items, Task<T, E> task) throws E {
+        map(name, parallelism, items, item -> {
+            task.execute(item);
+            return null;
+        });
+    }
+
+    /**
+     * Applies the mapper to every item. The first failure cancels pending work and is rethrown as is,
+     * once tasks that were already running have finished.
+     */
+    public static <T, R, E extends Exception> List<R> map(String name, int parallelism, Collection<T> items, Mapper<T, R, E> mapper) throws E {
+        List<R> results = new ArrayList<>(items.size());
+
+        int threads = Math.min(Math.max(parallelism, 1), items.size());
+        if (threads <= 1) {
+            for (T item : items) {
+                results.add(mapper.apply(item));
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new NamedThreadFactory(name));
+        try {
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> mapper.apply(item)));
+            }
+
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw ConcurrencyUtils.<E>rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JReleaserException(e);
+        } finally {
+            shutdown(executor);
+        }
+
+        return results;
+    }
+
+    /**
+     * Applies the mapper to every item and hands results to the consumer in input order, on the calling thread.
+     * At most two items per thread are in flight, so results need not fit in memory all at once.
+     * Failures are handled as in {@link #map}.
+     */
+    public static <T, R, E extends Exception> void mapOrdered(String name, int parallelism, Collection<T> items, Mapper<T, R, E> mapper, Task<R, E> consumer) throws E {
+        int threads = Math.min(Math.max(parallelism, 1), items.size());
+        if (threads <= 1) {
+            for (T item : items) {
+                consumer.execute(mapper.apply(item));
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new NamedThreadFactory(name));
+        try {
+            Deque<Future<R>> pending = new ArrayDeque<>();
+            for (T item : items) {
+                pending.add(executor.submit(() -> mapper.apply(item)));
+                if (pending.size() >= threads * 2) {
+                    consumer.execute(pending.removeFirst().get());
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                consumer.execute(pending.removeFirst().get());
+            }
+        } catch (ExecutionException e) {
+            throw ConcurrencyUtils.<E>rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JReleaserException(e);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    static void shutdown(ExecutorService executor) {
+        executor.shutdownNow();
+        // cancelled tasks may still be running, callers clean up after them once this returns
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // keep waiting
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> E rethrow(Throwable throwable) throws E {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        // tasks may only throw E or unchecked exceptions
+        return (E) throwable;
+    }
+
+    @FunctionalInterface
+    public interface Task<T, E extends Exception> {
+        void execute(T item) throws E;
+    }
+
+    @FunctionalInterface
+    public interface Mapper<T, R, E extends Exception> {
+        R apply(T item) throws E;
+    }
+
+    static class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String name;
+
+        NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jreleaser-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packs a directory into several archives with a single walk. Every file is read once and
+ * its bytes are handed to one encoder thread per tar archive through a bounded queue. A zip
+ * archive is packed alongside by {@link FileUtils#zip(Path, Path, CompressionOptions)}, which
+ * deflates its entries in parallel.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+final class FanOutArchiver {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int QUEUE_SIZE = 16;
+    private static final Operation END = out -> {
+        // sentinel
+    };
+
+    private FanOutArchiver() {
+        // prevent instantiation
+    }
+
+    static void archive(Path src, Map<FileType, Path> archives, CompressionOptions options) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(archives.size(), new ConcurrencyUtils.NamedThreadFactory("archive"));
+        List<Encoder> encoders = new ArrayList<>();
+        Future<?> zip = null;
+        try {
+            for (Map.Entry<FileType, Path> archive : archives.entrySet()) {
+                if (archive.getKey() == FileType.ZIP) {
+                    Path dest = archive.getValue();
+                    zip = executor.submit(() -> {
+                        FileUtils.zip(src, dest, options);
+                        return null;
+                    });
+                    continue;
+                }
+
+                Encoder encoder = new Encoder(archive.getKey(), archive.getValue(), options);
+                encoder.future = executor.submit(encoder);
+                encoders.add(encoder);
+            }
+
+            Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                    publish(encoders, out -> out.putArchiveEntry(FileUtils.tarEntry(out, src, file)));
+
+                    if (file.toFile().isFile()) {
+                        try (InputStream in = Files.newInputStream(file)) {
+                            while (true) {
+                                // every chunk is shared by all encoders thus it must not be reused
+                                byte[] chunk = new byte[BUFFER_SIZE];
+                                int n = in.read(chunk);
+                                if (n == -1) break;
+                                publish(encoders, out -> out.write(chunk, 0, n));
+                            }
+                        }
+                    }
+
+                    publish(encoders, TarArchiveOutputStream::closeArchiveEntry);
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+
+            publish(encoders, END);
+            for (Encoder encoder : encoders) {
+                await(encoder.future);
+            }
+            if (null != zip) {
+                await(zip);
+            }
+        } finally {
+            ConcurrencyUtils.shutdown(executor);
+        }
+    }
+
+    private static void publish(List<Encoder> encoders, Operation operation) throws IOException {
+        for (Encoder encoder : encoders) {
+            try {
+                while (!encoder.queue.offer(operation, 100, TimeUnit.MILLISECONDS)) {
+                    if (encoder.future.isDone()) {
+                        // the encoder failed and no longer drains its queue
+                        await(encoder.future);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void apply(TarArchiveOutputStream out) throws IOException;
+    }
+
+    private static final class Encoder implements Callable<Void> {
+        private final BlockingQueue<Operation> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        private final FileType fileType;
+        private final Path dest;
+        private final CompressionOptions options;
+        private Future<Void> future;
+
+        private Encoder(FileType fileType, Path dest, CompressionOptions options) {
+            this.fileType = fileType;
+            this.dest = dest;
+            this.options = options;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            try (TarArchiveOutputStream out = FileUtils.newTarArchiveOutputStream(fileType, dest, options)) {
+                for (Operation operation = queue.take(); operation != END; operation = queue.take()) {
+                    operation.apply(out);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -43,9 +43,11 @@ public enum FileType {
     TAR_BZ2("tar.bz2", true),
     TAR_GZ("tar.gz", true),
     TAR_XZ("tar.xz", true),
+    TAR_ZST("tar.zst", true),
     TBZ2("tbz2", true),
     TGZ("tgz", true),
     TXZ("txz", true),
+    TZST("tzst", true),
     ZIP("zip", true);
 
     private final String type;
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.util;
 
+import com.github.luben.zstd.ZstdOutputStream;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
@@ -25,30 +26,35 @@ import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
-import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
 import org.apache.commons.compress.utils.IOUtils;
 import org.jreleaser.bundle.RB;
+import org.tukaani.xz.LZMA2Options;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.CopyOption;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystemLoopException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
@@ -58,29 +64,42 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.ZipOutputStream;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.jreleaser.util.FileType.TAR;
 import static org.jreleaser.util.FileType.TAR_BZ2;
 import static org.jreleaser.util.FileType.TAR_GZ;
 import static org.jreleaser.util.FileType.TAR_XZ;
+import static org.jreleaser.util.FileType.TAR_ZST;
 import static org.jreleaser.util.FileType.TBZ2;
 import static org.jreleaser.util.FileType.TGZ;
 import static org.jreleaser.util.FileType.TXZ;
+import static org.jreleaser.util.FileType.TZST;
 import static org.jreleaser.util.FileType.ZIP;
 import static org.jreleaser.util.StringUtils.getFilename;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -101,11 +120,26 @@ public final class FileUtils {
         TAR_BZ2.extension(),
         TAR_GZ.extension(),
         TAR_XZ.extension(),
+        TAR_ZST.extension(),
         TBZ2.extension(),
         TGZ.extension(),
-        TXZ.extension()
+        TXZ.extension(),
+        TZST.extension()
     };
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int ZSTD_DEFAULT_LEVEL = 3;
+    private static final int READ_AHEAD_CHUNK_SIZE = 128 * 1024;
+    private static final int READ_AHEAD_CHUNKS = 16;
+    private static final int INSPECTION_CACHE_SIZE = 32;
+    private static final Map<String, List<String>> INSPECTION_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+                return size() > INSPECTION_CACHE_SIZE;
+            }
+        });
+
     private FileUtils() {
         //noop
     }
@@ -149,79 +183,195 @@ public final class FileUtils {
     }
 
     public static void zip(Path src, Path dest) throws IOException {
-        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(dest.toFile())) {
-            out.setMethod(ZipOutputStream.DEFLATED);
-
-            Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    String entryName = src.relativize(file).toString();
-                    File inputFile = file.toFile();
-                    ZipArchiveEntry archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+        zip(src, dest, CompressionOptions.DEFAULTS);
+    }
 
-                    archiveEntry.setMethod(ZipOutputStream.DEFLATED);
-                    if (inputFile.isFile() && Files.isExecutable(file)) {
-                        archiveEntry.setUnixMode(0100755);
-                    }
+    public static void zip(Path src, Path dest, CompressionOptions options) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                files.add(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
 
-                    out.putArchiveEntry(archiveEntry);
+        // entries are deflated concurrently (scatter) and appended raw in walk order (gather)
+        Set<Path> spilled = ConcurrentHashMap.newKeySet();
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(dest.toFile())) {
+            out.setMethod(ZipOutputStream.DEFLATED);
 
-                    if (inputFile.isFile()) {
-                        out.write(Files.readAllBytes(file));
+            ConcurrencyUtils.mapOrdered("zip", options.getThreads(), files,
+                file -> DeflatedEntry.of(src, file, options, spilled),
+                entry -> {
+                    try (InputStream raw = entry.open()) {
+                        out.addRawArchiveEntry(entry.entry, raw);
                     }
-                    out.closeArchiveEntry();
-
-                    return FileVisitResult.CONTINUE;
-                }
-            });
+                    entry.release(spilled);
+                });
+        } finally {
+            // every task has stopped by now, spill files of failed or unconsumed entries remain
+            for (Path file : spilled) {
+                Files.deleteIfExists(file);
+            }
         }
     }
 
     public static void tar(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING))) {
+        try (TarArchiveOutputStream out = newTarArchiveOutputStream(TAR, dest, CompressionOptions.DEFAULTS)) {
             tar(src, out);
         }
     }
 
     public static void tgz(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new GzipCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
+        tgz(src, dest, CompressionOptions.DEFAULTS);
+    }
+
+    public static void tgz(Path src, Path dest, CompressionOptions options) throws IOException {
+        try (TarArchiveOutputStream out = newTarArchiveOutputStream(TAR_GZ, dest, options)) {
             tar(src, out);
         }
     }
 
     public static void bz2(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new BZip2CompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
+        bz2(src, dest, CompressionOptions.DEFAULTS);
+    }
+
+    public static void bz2(Path src, Path dest, CompressionOptions options) throws IOException {
+        try (TarArchiveOutputStream out = newTarArchiveOutputStream(TAR_BZ2, dest, options)) {
             tar(src, out);
         }
     }
 
     public static void xz(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new XZCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
+        xz(src, dest, CompressionOptions.DEFAULTS);
+    }
+
+    public static void xz(Path src, Path dest, CompressionOptions options) throws IOException {
+        try (TarArchiveOutputStream out = newTarArchiveOutputStream(TAR_XZ, dest, options)) {
             tar(src, out);
         }
     }
 
+    public static void zst(Path src, Path dest) throws IOException {
+        zst(src, dest, CompressionOptions.DEFAULTS);
+    }
+
+    public static void zst(Path src, Path dest, CompressionOptions options) throws IOException {
+        try (TarArchiveOutputStream out = newTarArchiveOutputStream(TAR_ZST, dest, options)) {
+            tar(src, out);
+        }
+    }
+
+    public static void archive(Path src, Map<FileType, Path> archives) throws IOException {
+        archive(src, archives, CompressionOptions.DEFAULTS);
+    }
+
+    /**
+     * Packs {@code src} into every given archive. With more than one archive the tree is walked
+     * and every file is read once, its bytes are fed to all tar encoders at the same time while a
+     * zip archive is deflated in parallel on its own.
+     */
+    public static void archive(Path src, Map<FileType, Path> archives, CompressionOptions options) throws IOException {
+        if (archives.size() == 1) {
+            Map.Entry<FileType, Path> archive = archives.entrySet().iterator().next();
+            archive(src, archive.getKey(), archive.getValue(), options);
+            return;
+        }
+
+        FanOutArchiver.archive(src, archives, options);
+    }
+
+    public static void archive(Path src, FileType fileType, Path dest) throws IOException {
+        archive(src, fileType, dest, CompressionOptions.DEFAULTS);
+    }
+
+    public static void archive(Path src, FileType fileType, Path dest, CompressionOptions options) throws IOException {
+        switch (fileType) {
+            case ZIP:
+                zip(src, dest, options);
+                break;
+            case TAR:
+                tar(src, dest);
+                break;
+            case TGZ:
+            case TAR_GZ:
+                tgz(src, dest, options);
+                break;
+            case TXZ:
+            case TAR_XZ:
+                xz(src, dest, options);
+                break;
+            case TBZ2:
+            case TAR_BZ2:
+                bz2(src, dest, options);
+                break;
+            case TZST:
+            case TAR_ZST:
+                zst(src, dest, options);
+                break;
+            default:
+                throw new IllegalArgumentException(RB.$("ERROR_unsupported_archive_format", fileType));
+        }
+    }
+
+    static TarArchiveOutputStream newTarArchiveOutputStream(FileType fileType, Path dest, CompressionOptions options) throws IOException {
+        OutputStream out = newBufferedOutputStream(dest);
+        switch (fileType) {
+            case TAR:
+                break;
+            case TGZ:
+            case TAR_GZ:
+                out = new ParallelGzipOutputStream(out,
+                    options.isStoreOnly() ? Deflater.NO_COMPRESSION : options.getLevel(Deflater.DEFAULT_COMPRESSION),
+                    options.getBlockSize(ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE),
+                    options.getThreads());
+                break;
+            case TXZ:
+            case TAR_XZ:
+                // xz has no stored mode, preset 0 is the fastest
+                out = new ParallelXZOutputStream(out,
+                    options.isStoreOnly() ? 0 : options.getLevel(LZMA2Options.PRESET_DEFAULT),
+                    options.getBlockSize(0),
+                    options.getThreads());
+                break;
+            case TBZ2:
+            case TAR_BZ2:
+                // the bzip2 level is its block size in units of 100k
+                out = new BZip2CompressorOutputStream(out, options.isStoreOnly() ?
+                    BZip2CompressorOutputStream.MIN_BLOCKSIZE : options.getLevel(BZip2CompressorOutputStream.MAX_BLOCKSIZE));
+                break;
+            case TZST:
+            case TAR_ZST:
+                ZstdOutputStream zstd = new ZstdOutputStream(out, options.isStoreOnly() ? 1 : options.getLevel(ZSTD_DEFAULT_LEVEL));
+                zstd.setWorkers(options.getThreads());
+                int jobSize = options.getBlockSize(0);
+                if (jobSize > 0) zstd.setJobSize(jobSize);
+                out = zstd;
+                break;
+            default:
+                out.close();
+                throw new IllegalArgumentException(RB.$("ERROR_unsupported_archive_format", fileType));
+        }
+
+        return newTarArchiveOutputStream(out);
+    }
+
+    private static TarArchiveOutputStream newTarArchiveOutputStream(OutputStream out) {
+        TarArchiveOutputStream tar = new TarArchiveOutputStream(out);
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        return tar;
+    }
+
     private static void tar(Path src, TarArchiveOutputStream out) throws IOException {
-        out.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
         Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                String entryName = src.relativize(file).toString();
-                File inputFile = file.toFile();
-                TarArchiveEntry archiveEntry = (TarArchiveEntry) out.createArchiveEntry(inputFile, entryName);
-
-                if (inputFile.isFile() && Files.isExecutable(file)) {
-                    archiveEntry.setMode(0100755);
-                }
+                out.putArchiveEntry(tarEntry(out, src, file));
 
-                out.putArchiveEntry(archiveEntry);
-
-                if (inputFile.isFile()) {
-                    out.write(Files.readAllBytes(file));
+                if (file.toFile().isFile()) {
+                    // entries are streamed, memory use does not depend on the size of the file
+                    Files.copy(file, out);
                 }
 
                 out.closeArchiveEntry();
@@ -231,6 +381,35 @@ public final class FileUtils {
         });
     }
 
+    static TarArchiveEntry tarEntry(TarArchiveOutputStream out, Path src, Path file) throws IOException {
+        String entryName = src.relativize(file).toString();
+        File inputFile = file.toFile();
+        TarArchiveEntry archiveEntry = (TarArchiveEntry) out.createArchiveEntry(inputFile, entryName);
+
+        if (inputFile.isFile() && Files.isExecutable(file)) {
+            archiveEntry.setMode(0100755);
+        }
+
+        return archiveEntry;
+    }
+
+    static ZipArchiveEntry zipEntry(Path src, Path file, CompressionOptions options) {
+        String entryName = src.relativize(file).toString();
+        File inputFile = file.toFile();
+        ZipArchiveEntry archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+
+        archiveEntry.setMethod(options.isStoreOnly() ? ZipOutputStream.STORED : ZipOutputStream.DEFLATED);
+        if (inputFile.isFile() && Files.isExecutable(file)) {
+            archiveEntry.setUnixMode(0100755);
+        }
+
+        return archiveEntry;
+    }
+
+    private static OutputStream newBufferedOutputStream(Path dest) throws IOException {
+        return new BufferedOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING), BUFFER_SIZE);
+    }
+
     public static void unpackArchive(Path src, Path dest) throws IOException {
         unpackArchive(src, dest, true);
     }
@@ -291,7 +470,8 @@ public final class FileUtils {
         try (InputStream fi = Files.newInputStream(src);
              InputStream bi = new BufferedInputStream(fi);
              InputStream gzi = resolveCompressorInputStream(fileType, bi);
-             ArchiveInputStream in = new TarArchiveInputStream(gzi)) {
+             InputStream ri = new ReadAheadInputStream("decompress", gzi, READ_AHEAD_CHUNK_SIZE, READ_AHEAD_CHUNKS);
+             ArchiveInputStream in = new TarArchiveInputStream(ri)) {
             unpackArchive(removeRootEntry ? artifactFileName + "/" : "", destinationDir, in);
         }
     }
@@ -307,140 +487,20 @@ public final class FileUtils {
             case TXZ:
             case TAR_XZ:
                 return new XZCompressorInputStream(in);
+            case TZST:
+            case TAR_ZST:
+                return new ZstdCompressorInputStream(in);
         }
 
         return null;
     }
 
     private static void unpackArchive(String basename, File destinationDir, ArchiveInputStream in) throws IOException {
-        ArchiveEntry entry = null;
-        while ((entry = in.getNextEntry()) != null) {
-            if (!in.canReadEntryData(entry)) {
-                // log something?
-                continue;
-            }
-
-            String entryName = entry.getName();
-            if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
-                entryName = entryName.substring(basename.length());
-            }
-
-            File file = new File(destinationDir, entryName);
-            String destDirPath = destinationDir.getCanonicalPath();
-            String destFilePath = file.getCanonicalPath();
-            if (!destFilePath.startsWith(destDirPath + File.separator)) {
-                throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
-            }
-
-            if (entry.isDirectory()) {
-                if (!file.isDirectory() && !file.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
-                }
-            } else {
-                File parent = file.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
-                }
-
-                if (isSymbolicLink(entry)) {
-                    Files.createSymbolicLink(file.toPath(), Paths.get(getLinkName(in, entry)));
-                } else {
-                    try (OutputStream o = Files.newOutputStream(file.toPath())) {
-                        IOUtils.copy(in, o);
-                        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
-                        chmod(file, getEntryMode(entry, file));
-                    }
-                }
-            }
-        }
+        ArchiveExtractor.unpack(basename, destinationDir, in);
     }
 
     private static void unpackArchive(String basename, File destinationDir, ZipFile zipFile) throws IOException {
-        Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
-        while (entries.hasMoreElements()) {
-            ZipArchiveEntry entry = entries.nextElement();
-            if (!zipFile.canReadEntryData(entry)) {
-                // log something?
-                continue;
-            }
-
-            String entryName = entry.getName();
-            if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
-                entryName = entryName.substring(basename.length());
-            }
-
-            File file = new File(destinationDir, entryName);
-            String destDirPath = destinationDir.getCanonicalPath();
-            String destFilePath = file.getCanonicalPath();
-            if (!destFilePath.startsWith(destDirPath + File.separator)) {
-                throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
-            }
-
-            if (entry.isDirectory()) {
-                if (!file.isDirectory() && !file.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
-                }
-            } else {
-                File parent = file.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
-                }
-
-                if (entry.isUnixSymlink()) {
-                    Files.createSymbolicLink(file.toPath(), Paths.get(zipFile.getUnixSymlink(entry)));
-                } else {
-                    try (OutputStream o = Files.newOutputStream(file.toPath())) {
-                        IOUtils.copy(zipFile.getInputStream(entry), o);
-                        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
-                        chmod(file, getEntryMode(entry, file));
-                    }
-                }
-            }
-        }
-    }
-
-    private static boolean isSymbolicLink(ArchiveEntry entry) {
-        if (entry instanceof ZipArchiveEntry) {
-            return ((ZipArchiveEntry) entry).isUnixSymlink();
-        } else if (entry instanceof TarArchiveEntry) {
-            return ((TarArchiveEntry) entry).isSymbolicLink();
-        }
-        return false;
-    }
-
-    private static String getLinkName(ArchiveInputStream in, ArchiveEntry entry) throws IOException {
-        if (entry instanceof ZipArchiveEntry) {
-            try (OutputStream o = new ByteArrayOutputStream()) {
-                IOUtils.copy(in, o);
-                return o.toString();
-            }
-        } else if (entry instanceof TarArchiveEntry) {
-            return ((TarArchiveEntry) entry).getLinkName();
-        }
-        return "";
-    }
-
-    private static int getEntryMode(ArchiveEntry entry, File file) {
-        if (entry instanceof TarArchiveEntry) {
-            return getEntryMode(entry, ((TarArchiveEntry) entry).getMode(), file);
-        }
-        return getEntryMode(entry, ((ZipArchiveEntry) entry).getUnixMode(), file);
-    }
-
-    private static int getEntryMode(ArchiveEntry entry, int mode, File file) {
-        int unixMode = mode & 0777;
-        if (unixMode == 0) {
-            if (entry.isDirectory()) {
-                unixMode = 0755;
-            } else if ("bin".equalsIgnoreCase(file.getParentFile().getName())) {
-                // zipEntry.unixMode returns 0 most times even if the entry is executable
-                // force executable bit only if parent dir == 'bin'
-                unixMode = 0777;
-            } else {
-                unixMode = 0644;
-            }
-        }
-        return unixMode;
+        ArchiveExtractor.unpack(basename, destinationDir, zipFile);
     }
 
     public static void chmod(File file, int mode) throws IOException {
@@ -503,6 +563,10 @@ public final class FileUtils {
     }
 
     public static List<String> inspectArchive(Path src) throws IOException {
+        if (isZipArchive(src)) {
+            return inspectZipArchive(src);
+        }
+
         String filename = src.getFileName().toString();
         for (String extension : TAR_COMPRESSED_EXTENSIONS) {
             if (filename.endsWith(extension)) {
@@ -510,13 +574,15 @@ public final class FileUtils {
             }
         }
 
-        try (InputStream fi = Files.newInputStream(src);
-             InputStream bi = new BufferedInputStream(fi);
-             ArchiveInputStream in = new ArchiveStreamFactory().createArchiveInputStream(bi)) {
-            return inspectArchive(in);
-        } catch (ArchiveException e) {
-            throw new IOException(e.getMessage(), e);
-        }
+        return inspectCached(src, () -> {
+            try (InputStream fi = Files.newInputStream(src);
+                 InputStream bi = new BufferedInputStream(fi);
+                 ArchiveInputStream in = new ArchiveStreamFactory().createArchiveInputStream(bi)) {
+                return inspectArchive(in);
+            } catch (ArchiveException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        });
     }
 
     public static List<String> inspectArchiveCompressed(Path src) throws IOException {
@@ -526,12 +592,65 @@ public final class FileUtils {
         String artifactFileFormat = artifactExtension.substring(1);
         FileType fileType = FileType.of(artifactFileFormat);
 
-        try (InputStream fi = Files.newInputStream(src);
-             InputStream bi = new BufferedInputStream(fi);
-             InputStream gzi = resolveCompressorInputStream(fileType, bi);
-             ArchiveInputStream in = new TarArchiveInputStream(gzi)) {
-            return inspectArchive(in);
+        return inspectCached(src, () -> {
+            try (InputStream fi = Files.newInputStream(src);
+                 InputStream bi = new BufferedInputStream(fi);
+                 InputStream gzi = resolveCompressorInputStream(fileType, bi);
+                 InputStream ri = new ReadAheadInputStream("decompress", gzi, READ_AHEAD_CHUNK_SIZE, READ_AHEAD_CHUNKS);
+                 ArchiveInputStream in = new TarArchiveInputStream(ri)) {
+                return inspectArchive(in);
+            }
+        });
+    }
+
+    private static boolean isZipArchive(Path src) throws IOException {
+        byte[] signature = new byte[4];
+        int read;
+        try (InputStream in = Files.newInputStream(src)) {
+            read = IOUtils.readFully(in, signature);
+        }
+        return ZipArchiveInputStream.matches(signature, read);
+    }
+
+    /**
+     * Lists entries from the central directory alone, without reading local headers nor entry data.
+     */
+    private static List<String> inspectZipArchive(Path src) throws IOException {
+        List<String> entries = new ArrayList<>();
+
+        try (ZipFile zipFile = new ZipFile(Files.newByteChannel(src), src.toString(), StandardCharsets.UTF_8.name(), true, true)) {
+            Enumeration<ZipArchiveEntry> e = zipFile.getEntriesInPhysicalOrder();
+            while (e.hasMoreElements()) {
+                ZipArchiveEntry entry = e.nextElement();
+                if (!zipFile.canReadEntryData(entry)) {
+                    // log something?
+                    continue;
+                }
+                entries.add(entry.getName());
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Tar archives have no index, their listings are cached by content digest for the lifetime of the process.
+     */
+    private static List<String> inspectCached(Path src, Inspection inspection) throws IOException {
+        String key = Files.size(src) + ":" + ChecksumUtils.checksum(Algorithm.XXH3, src);
+
+        List<String> entries = INSPECTION_CACHE.get(key);
+        if (null == entries) {
+            entries = Collections.unmodifiableList(inspection.inspect());
+            INSPECTION_CACHE.put(key, entries);
         }
+
+        return new ArrayList<>(entries);
+    }
+
+    @FunctionalInterface
+    private interface Inspection {
+        List<String> inspect() throws IOException;
     }
 
     private static List<String> inspectArchive(ArchiveInputStream in) throws IOException {
@@ -637,6 +756,10 @@ public final class FileUtils {
     }
 
     public static void copyFiles(JReleaserLogger logger, Path source, Path target, Set<Path> paths) throws IOException {
+        copyFiles(logger, source, target, paths, StagingStrategy.COPY);
+    }
+
+    public static void copyFiles(JReleaserLogger logger, Path source, Path target, Set<Path> paths, StagingStrategy strategy) throws IOException {
         logger.debug(RB.$("files.copy", source, target));
 
         for (Path path : paths) {
@@ -644,7 +767,7 @@ public final class FileUtils {
             Path targetPath = target.resolve(path);
 
             Files.createDirectories(targetPath.getParent());
-            Files.copy(srcPath, targetPath, REPLACE_EXISTING);
+            stageFile(srcPath, targetPath, strategy, REPLACE_EXISTING);
         }
     }
 
@@ -653,23 +776,71 @@ public final class FileUtils {
     }
 
     public static boolean copyFilesRecursive(JReleaserLogger logger, Path source, Path target, Predicate<Path> filter) throws IOException {
-        FileTreeCopy copier = new FileTreeCopy(logger, source, target, filter);
+        return copyFilesRecursive(logger, source, target, filter, StagingStrategy.COPY);
+    }
+
+    public static boolean copyFilesRecursive(JReleaserLogger logger, Path source, Path target, Predicate<Path> filter, StagingStrategy strategy) throws IOException {
+        FileTreeCopy copier = new FileTreeCopy(logger, source, target, filter, strategy);
         Files.walkFileTree(source, copier);
         return copier.isSuccessful();
     }
 
+    /**
+     * Places {@code src} at {@code dest} following the given strategy. Options apply when the file ends up being copied.
+     * <p>
+     * A hard linked file shares its contents with the source, it must not be modified in place afterwards.
+     */
+    public static void stageFile(Path src, Path dest, StagingStrategy strategy, CopyOption... options) throws IOException {
+        if (strategy == StagingStrategy.HARDLINK) {
+            try {
+                Path existing = src.toRealPath();
+                Files.deleteIfExists(dest);
+                Files.createLink(dest, existing);
+                return;
+            } catch (IOException | UnsupportedOperationException | SecurityException e) {
+                // another filesystem or no support for links, copy instead
+            }
+        } else if (strategy == StagingStrategy.REFLINK) {
+            try {
+                transferFile(src, dest, Arrays.asList(options).contains(COPY_ATTRIBUTES));
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                // copy instead
+            }
+        }
+
+        Files.copy(src, dest, options);
+    }
+
+    private static void transferFile(Path src, Path dest, boolean copyAttributes) throws IOException {
+        try (FileChannel in = FileChannel.open(src, READ);
+             FileChannel out = FileChannel.open(dest, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            long size = in.size();
+            for (long position = 0; position < size; ) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+
+        copyPermissions(src, dest);
+        if (copyAttributes) {
+            Files.setLastModifiedTime(dest, Files.getLastModifiedTime(src));
+        }
+    }
+
     private static class FileTreeCopy implements FileVisitor<Path> {
         private final JReleaserLogger logger;
         private final Path source;
         private final Path target;
         private final Predicate<Path> filter;
+        private final StagingStrategy strategy;
         private boolean success = true;
 
-        FileTreeCopy(JReleaserLogger logger, Path source, Path target, Predicate<Path> filter) {
+        FileTreeCopy(JReleaserLogger logger, Path source, Path target, Predicate<Path> filter, StagingStrategy strategy) {
             this.logger = logger;
             this.source = source;
             this.target = target;
             this.filter = filter;
+            this.strategy = strategy;
             logger.debug(RB.$("files.copy", source, target));
         }
 
@@ -708,7 +879,7 @@ public final class FileUtils {
 
             try {
                 Path newfile = target.resolve(source.relativize(file));
-                Files.copy(file, newfile, REPLACE_EXISTING);
+                stageFile(file, newfile, strategy, REPLACE_EXISTING);
                 FileUtils.copyPermissions(file, newfile);
             } catch (IOException e) {
                 logger.error(RB.$("ERROR_files_copy"), source, e);
@@ -744,4 +915,92 @@ public final class FileUtils {
             return CONTINUE;
         }
     }
+
+    private static final class DeflatedEntry {
+        // larger entries are spilled to a temporary file instead of being kept in memory
+        private static final long SPILL_THRESHOLD = 1024 * 1024;
+
+        private final ZipArchiveEntry entry;
+        private final byte[] data;
+        private final Path file;
+        private final boolean temporary;
+
+        private DeflatedEntry(ZipArchiveEntry entry, byte[] data, Path file, boolean temporary) {
+            this.entry = entry;
+            this.data = data;
+            this.file = file;
+            this.temporary = temporary;
+        }
+
+        private InputStream open() throws IOException {
+            return null != data ? new ByteArrayInputStream(data) : Files.newInputStream(file);
+        }
+
+        private void release(Set<Path> spilled) throws IOException {
+            if (temporary) {
+                Files.deleteIfExists(file);
+                spilled.remove(file);
+            }
+        }
+
+        private static DeflatedEntry of(Path src, Path file, CompressionOptions options, Set<Path> spilled) throws IOException {
+            File inputFile = file.toFile();
+            ZipArchiveEntry archiveEntry = zipEntry(src, file, options);
+
+            if (options.isStoreOnly()) {
+                // stored data is the file itself, only the checksum is computed up front
+                CRC32 crc = new CRC32();
+                if (inputFile.isFile()) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        byte[] buffer = new byte[BUFFER_SIZE];
+                        int n;
+                        while ((n = in.read(buffer)) != -1) {
+                            crc.update(buffer, 0, n);
+                        }
+                    }
+                }
+                long size = inputFile.isFile() ? inputFile.length() : 0;
+                archiveEntry.setSize(size);
+                archiveEntry.setCompressedSize(size);
+                archiveEntry.setCrc(crc.getValue());
+                return inputFile.isFile() ? new DeflatedEntry(archiveEntry, null, file, false) :
+                    new DeflatedEntry(archiveEntry, new byte[0], null, false);
+            }
+
+            Path spill = null;
+            OutputStream sink;
+            if (inputFile.length() > SPILL_THRESHOLD) {
+                spill = Files.createTempFile("jreleaser-zip", ".deflated");
+                spilled.add(spill);
+                sink = newBufferedOutputStream(spill);
+            } else {
+                sink = new ByteArrayOutputStream();
+            }
+
+            CRC32 crc = new CRC32();
+            long size = 0;
+            Deflater deflater = new Deflater(options.getLevel(Deflater.DEFAULT_COMPRESSION), true);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(sink, deflater, BUFFER_SIZE)) {
+                if (inputFile.isFile()) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        byte[] buffer = new byte[BUFFER_SIZE];
+                        int n;
+                        while ((n = in.read(buffer)) != -1) {
+                            crc.update(buffer, 0, n);
+                            out.write(buffer, 0, n);
+                            size += n;
+                        }
+                    }
+                }
+                out.finish();
+                archiveEntry.setCompressedSize(deflater.getBytesWritten());
+            } finally {
+                deflater.end();
+            }
+            archiveEntry.setSize(size);
+            archiveEntry.setCrc(crc.getValue());
+
+            return new DeflatedEntry(archiveEntry, null == spill ? ((ByteArrayOutputStream) sink).toByteArray() : null, spill, null != spill);
+        }
+    }
 }
@@ -30,9 +30,9 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Function;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -42,40 +42,94 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public final class MustacheUtils {
+    private static final String ANONYMOUS_TEMPLATE_NAME = "template";
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+    /**
+     * Shared by every render. The factory compiles each partial once per name and keeps it in an
+     * unbounded cache that is never refreshed, compiled templates hold on to their partials as well.
+     * Partials are resolved from the classpath or the working directory and are rarely used, a partial
+     * edited on disk is only picked up by a new JVM.
+     */
+    private static final MustacheFactory MUSTACHE_FACTORY = new MyMustacheFactory();
+    private static final Map<String, Mustache> TEMPLATE_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<String, Mustache>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Mustache> eldest) {
+                return size() > TEMPLATE_CACHE_SIZE;
+            }
+        });
+
     private MustacheUtils() {
         //noop
     }
 
-    private static Map<String, String> envVars() {
+    /**
+     * Takes an immutable snapshot of the environment variables resolved as {@code Env.*} by templates.
+     * A context carries its snapshot as {@link Constants#KEY_ENVIRONMENT}, values in the context take
+     * precedence.
+     */
+    public static Map<String, String> snapshotEnvironment() {
         Map<String, String> vars = new LinkedHashMap<>();
         System.getenv().forEach((k, v) -> {
             if (!k.startsWith("JRELEASER_")) {
-                vars.put("Env." + k, v);
+                vars.put(k, v);
             }
         });
-        return vars;
+        return Collections.unmodifiableMap(vars);
     }
 
     public static String applyTemplate(Reader reader, Map<String, Object> context, String templateName) {
         StringWriter input = new StringWriter();
-        MustacheFactory mf = new MyMustacheFactory();
-        Mustache mustache = mf.compile(reader, templateName);
-        context.putAll(envVars());
-        mustache.execute(input, context);
+        Mustache mustache = compile(read(reader), templateName);
+        mustache.execute(input, new Object[]{ProcessEnvironment.SCOPE, context});
         input.flush();
         return input.toString();
     }
 
     public static String applyTemplate(Reader reader, Map<String, Object> context) {
-        return applyTemplate(reader, context, UUID.randomUUID().toString()).trim();
+        return applyTemplate(reader, context, ANONYMOUS_TEMPLATE_NAME).trim();
     }
 
     public static String applyTemplate(String template, Map<String, Object> context, String templateName) {
-        return applyTemplate(new StringReader(template), context, templateName);
+        StringWriter input = new StringWriter();
+        Mustache mustache = compile(template, templateName);
+        mustache.execute(input, new Object[]{ProcessEnvironment.SCOPE, context});
+        input.flush();
+        return input.toString();
     }
 
     public static String applyTemplate(String template, Map<String, Object> context) {
-        return applyTemplate(new StringReader(template), context, UUID.randomUUID().toString()).trim();
+        return applyTemplate(template, context, ANONYMOUS_TEMPLATE_NAME).trim();
+    }
+
+    /**
+     * Compiled templates are immutable and safe to execute concurrently, each one is parsed once
+     * and shared until evicted.
+     */
+    private static Mustache compile(String template, String templateName) {
+        String key = templateName + '\u0000' + template;
+
+        Mustache mustache = TEMPLATE_CACHE.get(key);
+        if (null == mustache) {
+            mustache = MUSTACHE_FACTORY.compile(new StringReader(template), templateName);
+            TEMPLATE_CACHE.put(key, mustache);
+        }
+
+        return mustache;
+    }
+
+    private static String read(Reader reader) {
+        StringWriter writer = new StringWriter();
+        char[] buffer = new char[8192];
+        try {
+            int n;
+            while ((n = reader.read(buffer)) != -1) {
+                writer.write(buffer, 0, n);
+            }
+        } catch (IOException e) {
+            throw new MustacheException(RB.$("ERROR_mustache_read_template"), e);
+        }
+        return writer.toString();
     }
 
     public static void applyTemplates(Map<String, Object> props, Map<String, Object> templates) {
@@ -109,6 +163,15 @@ public final class MustacheUtils {
         props.put("f_uncapitalize", new UncapitalizeFunction());
     }
 
+    /**
+     * Fallback scope for contexts that carry no snapshot. The environment of the process does not
+     * change, it is read on first use only.
+     */
+    private static final class ProcessEnvironment {
+        private static final Map<String, Object> SCOPE =
+            Collections.singletonMap(Constants.KEY_ENVIRONMENT, snapshotEnvironment());
+    }
+
     private static class MyMustacheFactory extends DefaultMustacheFactory {
         @Override
         public void encode(String value, Writer writer) {
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Splits its input into fixed size blocks that are compressed on a pool of threads and
+ * emitted in input order. At most two blocks per thread are in flight at any time.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+abstract class ParallelBlockOutputStream<B> extends OutputStream {
+    protected final OutputStream out;
+    private final int blockSize;
+    private final int maxPending;
+    private final ExecutorService executor;
+    private final Deque<Future<B>> pending = new ArrayDeque<>();
+    private byte[] block;
+    private int count;
+    private byte[] previous;
+    private boolean closed;
+
+    protected ParallelBlockOutputStream(OutputStream out, int blockSize, int threads, String name) {
+        this.out = out;
+        this.blockSize = blockSize;
+        this.block = new byte[blockSize];
+        int parallelism = Math.max(threads, 1);
+        this.maxPending = parallelism * 2;
+        this.executor = Executors.newFixedThreadPool(parallelism, new ConcurrencyUtils.NamedThreadFactory(name));
+    }
+
+    /**
+     * Compresses a block off the calling thread.
+     *
+     * @param input    the uncompressed block, full sized unless it is the last one
+     * @param previous the block that preceded this one, if any
+     * @param last     whether this is the final block of the stream
+     */
+    protected abstract B compress(byte[] input, byte[] previous, boolean last) throws IOException;
+
+    /**
+     * Writes a compressed block to {@code out}, called in input order on the calling thread.
+     */
+    protected abstract void emit(B block) throws IOException;
+
+    /**
+     * Writes whatever follows the last block.
+     */
+    protected abstract void finish() throws IOException;
+
+    /**
+     * Observes uncompressed bytes in input order, before they are buffered.
+     */
+    protected void update(byte[] b, int off, int len) {
+        // noop
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        update(b, off, len);
+        while (len > 0) {
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == blockSize) {
+                submit(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        try {
+            submit(true);
+            while (!pending.isEmpty()) {
+                drain();
+            }
+            finish();
+        } finally {
+            executor.shutdownNow();
+            out.close();
+        }
+    }
+
+    private void submit(boolean last) throws IOException {
+        byte[] input = count == blockSize ? block : Arrays.copyOf(block, count);
+        byte[] dictionary = previous;
+        pending.add(executor.submit(() -> compress(input, dictionary, last)));
+
+        previous = input;
+        block = last ? null : new byte[blockSize];
+        count = 0;
+
+        while (pending.size() >= maxPending) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        try {
+            emit(pending.removeFirst().get());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    protected void writeInt(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a single gzip member whose deflate stream is compressed in blocks on a pool of threads,
+ * in the same fashion as pigz. Each block is primed with the trailing 32 KiB of its predecessor
+ * and ends on a byte boundary, so the output is readable by any gzip implementation.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ParallelGzipOutputStream extends ParallelBlockOutputStream<byte[]> {
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+    private final int level;
+    private final CRC32 crc = new CRC32();
+    private long size;
+
+    public ParallelGzipOutputStream(OutputStream out) throws IOException {
+        this(out, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE, ConcurrencyUtils.resolveParallelism(null));
+    }
+
+    public ParallelGzipOutputStream(OutputStream out, int level, int blockSize, int threads) throws IOException {
+        super(out, checkBlockSize(blockSize), threads, "gzip");
+        this.level = level;
+        out.write(HEADER);
+    }
+
+    private static int checkBlockSize(int blockSize) {
+        if (blockSize < DICTIONARY_SIZE) {
+            throw new IllegalArgumentException("blockSize must be at least " + DICTIONARY_SIZE);
+        }
+        return blockSize;
+    }
+
+    @Override
+    protected void update(byte[] b, int off, int len) {
+        crc.update(b, off, len);
+        size += len;
+    }
+
+    @Override
+    protected byte[] compress(byte[] input, byte[] dictionary, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (null != dictionary) {
+                // JDK 8 and 11 ignore the offset given to setDictionary(byte[], int, int)
+                deflater.setDictionary(Arrays.copyOfRange(dictionary, dictionary.length - DICTIONARY_SIZE, dictionary.length));
+            }
+            deflater.setInput(input);
+
+            byte[] buffer = new byte[input.length / 2 + 64];
+            ByteArrayOutputStream result = new ByteArrayOutputStream(buffer.length);
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    result.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                // a sync flush ends the block on a byte boundary so blocks can be concatenated
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    result.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    protected void emit(byte[] block) throws IOException {
+        out.write(block);
+    }
+
+    @Override
+    protected void finish() throws IOException {
+        writeInt((int) crc.getValue());
+        writeInt((int) size);
+    }
+}
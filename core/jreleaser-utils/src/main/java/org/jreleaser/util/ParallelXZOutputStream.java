@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.tukaani.xz.FinishableOutputStream;
+import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.UnsupportedOptionsException;
+import org.tukaani.xz.check.CRC64;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a single .xz stream made of independently compressed LZMA2 blocks, in the same
+ * fashion as {@code xz -T}. Every block header records its sizes and the stream ends with
+ * a regular index, so the output is readable by any xz implementation.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ParallelXZOutputStream extends ParallelBlockOutputStream<ParallelXZOutputStream.Block> {
+    private static final byte[] MAGIC = {(byte) 0xfd, '7', 'z', 'X', 'Z', 0x00};
+    private static final byte[] FOOTER_MAGIC = {'Y', 'Z'};
+    private static final byte[] STREAM_FLAGS = {0x00, 0x04};
+    private static final byte LZMA2_FILTER_ID = 0x21;
+    private static final int CHECK_SIZE = 8;
+
+    private final int preset;
+    private final int dictSize;
+    private final ByteArrayOutputStream index = new ByteArrayOutputStream();
+    private long records;
+
+    public ParallelXZOutputStream(OutputStream out) throws IOException {
+        this(out, LZMA2Options.PRESET_DEFAULT, 0, ConcurrencyUtils.resolveParallelism(null));
+    }
+
+    /**
+     * @param preset    LZMA2 preset, 0 to 9
+     * @param blockSize uncompressed size of each block, {@code 0} selects three times the
+     *                  dictionary size of the preset, as {@code xz -T} does
+     * @param threads   maximum number of blocks compressed concurrently, lowered if their
+     *                  encoders and buffers would not fit in half of the maximum heap
+     */
+    public ParallelXZOutputStream(OutputStream out, int preset, int blockSize, int threads) throws IOException {
+        this(out, preset, dictSize(preset, blockSize), blockSize > 0 ? blockSize : 3 * new LZMA2Options(preset).getDictSize(), threads);
+    }
+
+    private ParallelXZOutputStream(OutputStream out, int preset, int dictSize, int blockSize, int threads) throws IOException {
+        super(out, blockSize, limitThreads(threads, preset, dictSize, blockSize, Runtime.getRuntime().maxMemory()), "xz");
+        this.preset = preset;
+        this.dictSize = dictSize;
+
+        out.write(MAGIC);
+        out.write(STREAM_FLAGS);
+        writeInt(crc32(STREAM_FLAGS, 0, STREAM_FLAGS.length));
+    }
+
+    private static int dictSize(int preset, int blockSize) throws UnsupportedOptionsException {
+        int dictSize = new LZMA2Options(preset).getDictSize();
+        // a dictionary larger than the block cannot be filled
+        return blockSize > 0 ? Math.max(Math.min(dictSize, blockSize), LZMA2Options.DICT_SIZE_MIN) : dictSize;
+    }
+
+    /**
+     * Caps the number of threads the way {@code xz -T} honours its memory limit. Each thread
+     * holds an encoder, and up to two uncompressed blocks plus their compressed copies are
+     * in flight per thread. Half of the heap is left to the caller and to other encoders.
+     */
+    static int limitThreads(int threads, int preset, int dictSize, int blockSize, long maxMemory) throws UnsupportedOptionsException {
+        LZMA2Options options = new LZMA2Options(preset);
+        options.setDictSize(dictSize);
+        long perThread = options.getEncoderMemoryUsage() * 1024L + 4L * blockSize;
+        long limit = maxMemory / 2 / perThread;
+        return (int) Math.max(1, Math.min(threads, limit));
+    }
+
+    @Override
+    protected Block compress(byte[] input, byte[] previous, boolean last) throws IOException {
+        if (input.length == 0) {
+            return null;
+        }
+
+        LZMA2Options options = new LZMA2Options(preset);
+        options.setDictSize(dictSize);
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream(input.length / 4 + 64);
+        FinishableOutputStream lzma2 = options.getOutputStream(new FinishableOutputStream() {
+            @Override
+            public void write(int b) {
+                data.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                data.write(b, off, len);
+            }
+        });
+        lzma2.write(input);
+        lzma2.finish();
+
+        byte[] header = blockHeader(data.size(), input.length);
+        CRC64 check = new CRC64();
+        check.update(input, 0, input.length);
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream(header.length + data.size() + 3 + CHECK_SIZE);
+        block.write(header);
+        data.writeTo(block);
+        block.write(new byte[padding(data.size())]);
+        block.write(check.finish());
+
+        return new Block(block.toByteArray(), header.length + data.size() + CHECK_SIZE, input.length);
+    }
+
+    @Override
+    protected void emit(Block block) throws IOException {
+        if (null == block) return;
+
+        out.write(block.data);
+        writeVli(index, block.unpaddedSize);
+        writeVli(index, block.uncompressedSize);
+        records++;
+    }
+
+    @Override
+    protected void finish() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        buffer.write(0x00);
+        writeVli(buffer, records);
+        index.writeTo(buffer);
+        buffer.write(new byte[padding(buffer.size())]);
+        byte[] bytes = buffer.toByteArray();
+        out.write(bytes);
+        writeInt(crc32(bytes, 0, bytes.length));
+
+        byte[] footer = new byte[6];
+        int backwardSize = (bytes.length + 4) / 4 - 1;
+        footer[0] = (byte) backwardSize;
+        footer[1] = (byte) (backwardSize >>> 8);
+        footer[2] = (byte) (backwardSize >>> 16);
+        footer[3] = (byte) (backwardSize >>> 24);
+        footer[4] = STREAM_FLAGS[0];
+        footer[5] = STREAM_FLAGS[1];
+        writeInt(crc32(footer, 0, footer.length));
+        out.write(footer);
+        out.write(FOOTER_MAGIC);
+    }
+
+    private byte[] blockHeader(long compressedSize, long uncompressedSize) throws UnsupportedOptionsException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream(32);
+        // size placeholder, one filter, compressed and uncompressed sizes present
+        header.write(0x00);
+        header.write(0xc0);
+        writeVli(header, compressedSize);
+        writeVli(header, uncompressedSize);
+        header.write(LZMA2_FILTER_ID);
+        header.write(0x01);
+        header.write(dictSizeProperty(dictSize));
+        int padding = padding(header.size());
+        header.write(new byte[padding], 0, padding);
+
+        byte[] bytes = header.toByteArray();
+        int size = bytes.length + 4;
+        bytes[0] = (byte) (size / 4 - 1);
+
+        byte[] result = new byte[size];
+        System.arraycopy(bytes, 0, result, 0, bytes.length);
+        int crc = crc32(bytes, 0, bytes.length);
+        for (int i = 0; i < 4; i++) {
+            result[bytes.length + i] = (byte) (crc >>> (8 * i));
+        }
+        return result;
+    }
+
+    private static int dictSizeProperty(int dictSize) throws UnsupportedOptionsException {
+        for (int p = 0; p <= 40; p++) {
+            long size = (long) (2 | (p & 1)) << (p / 2 + 11);
+            if (size >= dictSize) {
+                return p;
+            }
+        }
+        throw new UnsupportedOptionsException("Unsupported dictionary size " + dictSize);
+    }
+
+    private static int padding(long size) {
+        return (int) ((4 - (size & 3)) & 3);
+    }
+
+    private static void writeVli(ByteArrayOutputStream out, long value) {
+        while (value >= 0x80) {
+            out.write((int) (value | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int crc32(byte[] b, int off, int len) {
+        CRC32 crc = new CRC32();
+        crc.update(b, off, len);
+        return (int) crc.getValue();
+    }
+
+    static final class Block {
+        private final byte[] data;
+        private final long unpaddedSize;
+        private final long uncompressedSize;
+
+        private Block(byte[] data, long unpaddedSize, long uncompressedSize) {
+            this.data = data;
+            this.unpaddedSize = unpaddedSize;
+            this.uncompressedSize = uncompressedSize;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.utils.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads its delegate on a background thread, a bounded number of chunks ahead of the consumer.
+ * <p>
+ * Wrapping a decompressing stream moves decompression off the calling thread, which is then
+ * free to parse and write entries while the next chunks are being inflated.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+final class ReadAheadInputStream extends InputStream {
+    private static final byte[] EOF = new byte[0];
+
+    private final InputStream in;
+    private final BlockingQueue<byte[]> queue;
+    private final ExecutorService executor;
+    private volatile IOException failure;
+    private byte[] current;
+    private int position;
+    private boolean closed;
+
+    ReadAheadInputStream(String name, InputStream in, int chunkSize, int chunks) {
+        this.in = in;
+        this.queue = new ArrayBlockingQueue<>(chunks);
+        this.executor = Executors.newSingleThreadExecutor(new ConcurrencyUtils.NamedThreadFactory(name));
+        this.executor.submit(() -> pump(chunkSize));
+    }
+
+    private Void pump(int chunkSize) {
+        try {
+            try {
+                int n = chunkSize;
+                while (n == chunkSize) {
+                    byte[] chunk = new byte[chunkSize];
+                    n = IOUtils.readFully(in, chunk);
+                    if (n > 0) queue.put(n < chunkSize ? Arrays.copyOf(chunk, n) : chunk);
+                }
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException(e);
+            }
+            queue.put(EOF);
+        } catch (InterruptedException e) {
+            // interrupted by close(), nobody takes from the queue anymore
+        }
+        return null;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) return -1;
+        return current[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (!fill()) return -1;
+
+        int n = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    private boolean fill() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+        if (current == EOF) return false;
+        if (null != current && position < current.length) return true;
+
+        try {
+            current = queue.take();
+            position = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+
+        if (current == EOF) {
+            if (null != failure) throw failure;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        try {
+            // the delegate must not be closed while the pump is still reading from it
+            ConcurrencyUtils.shutdown(executor);
+        } finally {
+            queue.clear();
+            current = null;
+            in.close();
+        }
+    }
+}
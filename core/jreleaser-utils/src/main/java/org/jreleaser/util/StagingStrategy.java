@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * How files are placed into work directories that are only read afterwards.
+ * Strategies other than {@code COPY} fall back to a copy when they are not supported.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public enum StagingStrategy {
+    /**
+     * Copies every byte.
+     */
+    COPY,
+    /**
+     * Creates a hard link to the source file, which must live on the same filesystem.
+     */
+    HARDLINK,
+    /**
+     * Transfers bytes channel to channel, letting the kernel clone extents when the filesystem supports it.
+     */
+    REFLINK;
+
+    @JsonCreator
+    public static StagingStrategy of(String str) {
+        if (isBlank(str)) return null;
+
+        String value = str.toUpperCase().trim()
+            .replace("-", "_");
+
+        switch (value) {
+            case "HARD_LINK":
+                return HARDLINK;
+            case "REFLINK_IF_AVAILABLE":
+                return REFLINK;
+        }
+
+        return StagingStrategy.valueOf(value);
+    }
+}
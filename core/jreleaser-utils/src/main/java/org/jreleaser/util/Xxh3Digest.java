@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+/**
+ * Streaming implementation of the 64-bit XXH3 hash (seed 0, default secret).
+ * <p>
+ * Output is compatible with {@code xxhsum -H3}.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+final class Xxh3Digest {
+    private static final long PRIME32_1 = 0x9E3779B1L;
+    private static final long PRIME32_2 = 0x85EBCA77L;
+    private static final long PRIME32_3 = 0xC2B2AE3DL;
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+    private static final long PRIME_MX1 = 0x165667919E3779F9L;
+    private static final long PRIME_MX2 = 0x9FB21C651E98DF25L;
+
+    private static final byte[] SECRET = secret(
+        "b8fe6c3923a44bbe7c01812cf721ad1cded46de9839097db7240a4a4b7b3671f" +
+            "cb79e64eccc0e578825ad07dccff7221b8084674f743248ee03590e6813a264c" +
+            "3c2852bb91c300cb88d0658b1b532ea371644897a20df94e3819ef46a9deacd8" +
+            "a8fa763fe39c343ff9dcbbc7c70b4f1d8a51e04bcdb45931c89f7ec9d9787364" +
+            "eac5ac8334d3ebc3c581a0fffa1363eb170ddd51b7f0da49d316552629d4689e" +
+            "2b16be587d47a1fc8ff8b8d17ad031ce45cb3a8f95160428afd7fbcabb4b407e");
+
+    private static final int STRIPE_LEN = 64;
+    private static final int STRIPES_PER_BLOCK = (SECRET.length - STRIPE_LEN) / 8;
+    private static final int MIDSIZE_MAX = 240;
+    private static final int BUFFER_SIZE = STRIPE_LEN * STRIPES_PER_BLOCK + STRIPE_LEN;
+
+    private final long[] acc = {PRIME32_3, PRIME64_1, PRIME64_2, PRIME64_3, PRIME64_4, PRIME32_2, PRIME64_5, PRIME32_1};
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int start;
+    private int end;
+    private int stripes;
+    private long total;
+
+    void update(byte[] data, int offset, int length) {
+        total += length;
+        while (length > 0) {
+            if (end == buffer.length) {
+                consumeStripes();
+                // retain one stripe worth of consumed bytes, needed for the final stripe
+                int keep = end - start + STRIPE_LEN;
+                System.arraycopy(buffer, end - keep, buffer, 0, keep);
+                start = STRIPE_LEN;
+                end = keep;
+            }
+            int n = Math.min(length, buffer.length - end);
+            System.arraycopy(data, offset, buffer, end, n);
+            end += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    long digest() {
+        if (total <= MIDSIZE_MAX) {
+            return hashShort(buffer, (int) total);
+        }
+
+        consumeStripes();
+        accumulate(buffer, end - STRIPE_LEN, SECRET.length - STRIPE_LEN - 7);
+
+        long result = total * PRIME64_1;
+        for (int i = 0; i < 4; i++) {
+            result += mul128fold64(acc[2 * i] ^ readLong(SECRET, 11 + 16 * i),
+                acc[2 * i + 1] ^ readLong(SECRET, 11 + 16 * i + 8));
+        }
+        return avalanche(result);
+    }
+
+    private void consumeStripes() {
+        // a stripe is only consumed when more input follows it
+        while (end - start > STRIPE_LEN && total > MIDSIZE_MAX) {
+            accumulate(buffer, start, 8 * stripes);
+            start += STRIPE_LEN;
+            if (++stripes == STRIPES_PER_BLOCK) {
+                scramble();
+                stripes = 0;
+            }
+        }
+    }
+
+    private void accumulate(byte[] input, int offset, int secretOffset) {
+        for (int i = 0; i < 8; i++) {
+            long value = readLong(input, offset + 8 * i);
+            long key = value ^ readLong(SECRET, secretOffset + 8 * i);
+            acc[i ^ 1] += value;
+            acc[i] += (key & 0xFFFFFFFFL) * (key >>> 32);
+        }
+    }
+
+    private void scramble() {
+        int secretOffset = SECRET.length - STRIPE_LEN;
+        for (int i = 0; i < 8; i++) {
+            long a = acc[i];
+            a ^= a >>> 47;
+            a ^= readLong(SECRET, secretOffset + 8 * i);
+            acc[i] = a * PRIME32_1;
+        }
+    }
+
+    private static long hashShort(byte[] input, int length) {
+        if (length > 128) return hash129To240(input, length);
+        if (length > 16) return hash17To128(input, length);
+        if (length > 8) {
+            long lo = readLong(input, 0) ^ (readLong(SECRET, 24) ^ readLong(SECRET, 32));
+            long hi = readLong(input, length - 8) ^ (readLong(SECRET, 40) ^ readLong(SECRET, 48));
+            return avalanche(length + Long.reverseBytes(lo) + hi + mul128fold64(lo, hi));
+        }
+        if (length >= 4) {
+            long in1 = readInt(input, 0);
+            long in2 = readInt(input, length - 4);
+            long keyed = (in2 + (in1 << 32)) ^ (readLong(SECRET, 8) ^ readLong(SECRET, 16));
+            return rrmxmx(keyed, length);
+        }
+        if (length > 0) {
+            int c1 = input[0] & 0xFF;
+            int c2 = input[length >> 1] & 0xFF;
+            int c3 = input[length - 1] & 0xFF;
+            long combined = ((long) c1 << 16 | (long) c2 << 24 | c3 | (long) length << 8) & 0xFFFFFFFFL;
+            return xxh64Avalanche(combined ^ (readInt(SECRET, 0) ^ readInt(SECRET, 4)));
+        }
+        return xxh64Avalanche(readLong(SECRET, 56) ^ readLong(SECRET, 64));
+    }
+
+    private static long hash17To128(byte[] input, int length) {
+        long acc = length * PRIME64_1;
+        if (length > 32) {
+            if (length > 64) {
+                if (length > 96) {
+                    acc += mix16(input, 48, 96);
+                    acc += mix16(input, length - 64, 112);
+                }
+                acc += mix16(input, 32, 64);
+                acc += mix16(input, length - 48, 80);
+            }
+            acc += mix16(input, 16, 32);
+            acc += mix16(input, length - 32, 48);
+        }
+        acc += mix16(input, 0, 0);
+        acc += mix16(input, length - 16, 16);
+        return avalanche(acc);
+    }
+
+    private static long hash129To240(byte[] input, int length) {
+        long acc = length * PRIME64_1;
+        int rounds = length / 16;
+        for (int i = 0; i < 8; i++) {
+            acc += mix16(input, 16 * i, 16 * i);
+        }
+        acc = avalanche(acc);
+        for (int i = 8; i < rounds; i++) {
+            acc += mix16(input, 16 * i, 16 * (i - 8) + 3);
+        }
+        acc += mix16(input, length - 16, 136 - 17);
+        return avalanche(acc);
+    }
+
+    private static long mix16(byte[] input, int offset, int secretOffset) {
+        return mul128fold64(readLong(input, offset) ^ readLong(SECRET, secretOffset),
+            readLong(input, offset + 8) ^ readLong(SECRET, secretOffset + 8));
+    }
+
+    private static long mul128fold64(long a, long b) {
+        long aLo = a & 0xFFFFFFFFL;
+        long aHi = a >>> 32;
+        long bLo = b & 0xFFFFFFFFL;
+        long bHi = b >>> 32;
+        long loLo = aLo * bLo;
+        long hiLo = aHi * bLo;
+        long loHi = aLo * bHi;
+        long hiHi = aHi * bHi;
+        long cross = (loLo >>> 32) + (hiLo & 0xFFFFFFFFL) + loHi;
+        long upper = (hiLo >>> 32) + (cross >>> 32) + hiHi;
+        long lower = (cross << 32) | (loLo & 0xFFFFFFFFL);
+        return lower ^ upper;
+    }
+
+    private static long avalanche(long h) {
+        h ^= h >>> 37;
+        h *= PRIME_MX1;
+        return h ^ (h >>> 32);
+    }
+
+    private static long rrmxmx(long h, long length) {
+        h ^= Long.rotateLeft(h, 49) ^ Long.rotateLeft(h, 24);
+        h *= PRIME_MX2;
+        h ^= (h >>> 35) + length;
+        h *= PRIME_MX2;
+        return h ^ (h >>> 28);
+    }
+
+    private static long xxh64Avalanche(long h) {
+        h ^= h >>> 33;
+        h *= PRIME64_2;
+        h ^= h >>> 29;
+        h *= PRIME64_3;
+        return h ^ (h >>> 32);
+    }
+
+    private static long readLong(byte[] b, int i) {
+        return (b[i] & 0xFFL) |
+            (b[i + 1] & 0xFFL) << 8 |
+            (b[i + 2] & 0xFFL) << 16 |
+            (b[i + 3] & 0xFFL) << 24 |
+            (b[i + 4] & 0xFFL) << 32 |
+            (b[i + 5] & 0xFFL) << 40 |
+            (b[i + 6] & 0xFFL) << 48 |
+            (b[i + 7] & 0xFFL) << 56;
+    }
+
+    private static long readInt(byte[] b, int i) {
+        return (b[i] & 0xFFL) |
+            (b[i + 1] & 0xFFL) << 8 |
+            (b[i + 2] & 0xFFL) << 16 |
+            (b[i + 3] & 0xFFL) << 24;
+    }
+
+    private static byte[] secret(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
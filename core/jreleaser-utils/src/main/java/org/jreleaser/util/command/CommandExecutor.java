@@ -118,6 +118,11 @@ public class CommandExecutor {
             .redirectInput(in), out);
     }
 
+    public int executeCommandWithInputCapturing(Command command, InputStream in, OutputStream out, OutputStream err) throws CommandException {
+        return executeCommandCapturing(createProcessExecutor(command)
+            .redirectInput(in), out, err);
+    }
+
     public int executeCommandWithInput(Path directory, Command command, InputStream in) throws CommandException {
         return executeCommand(createProcessExecutor(command)
             .redirectInput(in)
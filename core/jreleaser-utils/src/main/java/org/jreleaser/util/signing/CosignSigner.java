@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util.signing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bouncycastle.crypto.engines.XSalsa20Engine;
+import org.bouncycastle.crypto.generators.SCrypt;
+import org.bouncycastle.crypto.macs.Poly1305;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.bouncycastle.crypto.params.ParametersWithIV;
+import org.bouncycastle.jce.interfaces.ECPrivateKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.jce.spec.ECPublicKeySpec;
+import org.bouncycastle.util.Arrays;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemReader;
+import org.jreleaser.bundle.RB;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Cosign compatible blob signatures computed in-process.
+ * <p>
+ * Private keys use the cosign format: a PKCS#8 EC key sealed with NaCl secretbox
+ * under a scrypt derived key. Signatures are base64 encoded ASN.1 ECDSA signatures
+ * over the SHA-256 digest of the blob, as produced by {@code cosign sign-blob}.
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public final class CosignSigner {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SIGNATURE_ALGORITHM = "SHA256withECDSA";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int KEY_SIZE = 32;
+    private static final int TAG_SIZE = 16;
+
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+
+    private CosignSigner(PrivateKey privateKey, PublicKey publicKey) {
+        this.privateKey = privateKey;
+        this.publicKey = publicKey;
+    }
+
+    /**
+     * Decrypts the given cosign private key. Fails with a {@code SigningException}
+     * if the password does not match.
+     */
+    public static CosignSigner of(Path privateKeyFile, byte[] password) throws SigningException {
+        try {
+            JsonNode envelope = MAPPER.readTree(readPem(privateKeyFile).getContent());
+
+            JsonNode kdf = envelope.get("kdf");
+            JsonNode params = kdf.get("params");
+            byte[] key = SCrypt.generate(password,
+                decode(kdf.get("salt")),
+                params.get("N").asInt(),
+                params.get("r").asInt(),
+                params.get("p").asInt(),
+                KEY_SIZE);
+
+            byte[] plain = secretboxOpen(decode(envelope.get("ciphertext")),
+                decode(envelope.get("cipher").get("nonce")), key);
+            if (null == plain) {
+                throw new SigningException(RB.$("ERROR_password_incorrect"));
+            }
+
+            PrivateKey privateKey = KeyFactory.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME)
+                .generatePrivate(new PKCS8EncodedKeySpec(plain));
+            return new CosignSigner(privateKey, derivePublicKey((ECPrivateKey) privateKey));
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            throw new SigningException(RB.$("ERROR_signing_init_keyring"), e);
+        }
+    }
+
+    public static PublicKey readPublicKey(Path publicKeyFile) throws SigningException {
+        try {
+            return KeyFactory.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME)
+                .generatePublic(new X509EncodedKeySpec(readPem(publicKeyFile).getContent()));
+        } catch (IOException | GeneralSecurityException e) {
+            throw new SigningException(RB.$("ERROR_signing_init_keyring"), e);
+        }
+    }
+
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * Returns the base64 encoded signature of the given input.
+     */
+    public byte[] sign(Path input) throws SigningException {
+        try {
+            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM, BouncyCastleProvider.PROVIDER_NAME);
+            signature.initSign(privateKey);
+            update(signature, input);
+            return Base64.getEncoder().encode(signature.sign());
+        } catch (IOException | GeneralSecurityException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
+        }
+    }
+
+    public static boolean verify(PublicKey publicKey, Path signatureFile, Path input) throws SigningException {
+        try {
+            byte[] encoded = Base64.getDecoder().decode(new String(Files.readAllBytes(signatureFile), UTF_8).trim());
+
+            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM, BouncyCastleProvider.PROVIDER_NAME);
+            signature.initVerify(publicKey);
+            update(signature, input);
+            return signature.verify(encoded);
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            throw new SigningException(RB.$("ERROR_signing_verify_signature", input), e);
+        }
+    }
+
+    private static void update(Signature signature, Path input) throws IOException, GeneralSecurityException {
+        try (InputStream in = Files.newInputStream(input)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = in.read(buffer)) >= 0) {
+                signature.update(buffer, 0, length);
+            }
+        }
+    }
+
+    private static PemObject readPem(Path file) throws IOException {
+        try (PemReader reader = new PemReader(new StringReader(new String(Files.readAllBytes(file), UTF_8)))) {
+            PemObject pem = reader.readPemObject();
+            if (null == pem) {
+                throw new IOException(RB.$("ERROR_invalid_pem", file));
+            }
+            return pem;
+        }
+    }
+
+    private static byte[] decode(JsonNode node) {
+        return Base64.getDecoder().decode(node.asText());
+    }
+
+    private static PublicKey derivePublicKey(ECPrivateKey privateKey) throws GeneralSecurityException {
+        ECPublicKeySpec spec = new ECPublicKeySpec(
+            privateKey.getParameters().getG().multiply(privateKey.getD()).normalize(),
+            privateKey.getParameters());
+        return KeyFactory.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME).generatePublic(spec);
+    }
+
+    /**
+     * NaCl secretbox (XSalsa20-Poly1305), the box is the 16 byte tag followed by the ciphertext.
+     * Returns {@code null} if authentication fails.
+     */
+    static byte[] secretboxOpen(byte[] box, byte[] nonce, byte[] key) {
+        if (box.length < TAG_SIZE) return null;
+
+        XSalsa20Engine cipher = new XSalsa20Engine();
+        cipher.init(false, new ParametersWithIV(new KeyParameter(key), nonce));
+
+        // the first 32 bytes of the key stream are the one-time authenticator key
+        byte[] authKey = new byte[KEY_SIZE];
+        cipher.processBytes(authKey, 0, KEY_SIZE, authKey, 0);
+
+        byte[] tag = new byte[TAG_SIZE];
+        Poly1305 mac = new Poly1305();
+        mac.init(new KeyParameter(authKey));
+        mac.update(box, TAG_SIZE, box.length - TAG_SIZE);
+        mac.doFinal(tag, 0);
+        if (!Arrays.constantTimeAreEqual(TAG_SIZE, tag, 0, box, 0)) return null;
+
+        byte[] plain = new byte[box.length - TAG_SIZE];
+        cipher.processBytes(box, TAG_SIZE, plain.length, plain, 0);
+        return plain;
+    }
+}
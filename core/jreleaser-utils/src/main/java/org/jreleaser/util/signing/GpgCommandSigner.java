@@ -24,6 +24,7 @@ import org.jreleaser.util.command.CommandException;
 import org.jreleaser.util.command.CommandExecutor;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -89,9 +90,20 @@ public final class GpgCommandSigner {
             .arg(output.toAbsolutePath().toString())
             .arg(input.toAbsolutePath().toString());
 
-        new CommandExecutor(logger)
-            .executeCommandWithInput(cmd,
-                new ByteArrayInputStream(passphrase.getBytes()));
+        // output is collected per invocation so that concurrent signers do not interleave it
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitValue = new CommandExecutor(logger, true)
+            .executeCommandWithInputCapturing(cmd,
+                new ByteArrayInputStream(passphrase.getBytes()), out, err);
+
+        if (exitValue != 0) {
+            throw new CommandException(RB.$("ERROR_gpg_command_failed", exitValue, err.toString().trim()));
+        }
+
+        if (isNotBlank(err.toString())) {
+            logger.debug("{}", err.toString().trim());
+        }
     }
 
     public boolean verify(Path signature, Path target) throws CommandException {
@@ -102,6 +114,81 @@ public final class GpgCommandSigner {
             .executeCommand(cmd) == 0;
     }
 
+    /**
+     * Returns the fingerprint of the signing key, that is, the key matching
+     * {@code keyName} or the first secret key when no name is configured.
+     */
+    public String fingerprint() throws CommandException {
+        Command cmd = new Command(executable);
+
+        if (isNotBlank(homeDir)) {
+            cmd.arg("--homedir")
+                .arg(homeDir);
+        }
+
+        cmd.arg("--batch")
+            .arg("--with-colons")
+            .arg("--list-secret-keys");
+
+        if (isNotBlank(keyName)) {
+            cmd.arg(keyName);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CommandExecutor(logger, true)
+            .executeCommandCapturing(cmd, out);
+
+        for (String line : out.toString().split("\\R")) {
+            // fpr:::::::::<fingerprint>:
+            String[] fields = line.split(":");
+            if (fields.length > 9 && "fpr".equals(fields[0])) {
+                return fields[9];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Exports the public key matching {@code keyName}, or every public key when no name is
+     * configured, from the configured home directory and keyrings.
+     */
+    public byte[] exportPublicKey() throws CommandException {
+        Command cmd = new Command(executable);
+
+        if (isNotBlank(homeDir)) {
+            cmd.arg("--homedir")
+                .arg(homeDir);
+        }
+
+        if (!defaultKeyring) {
+            cmd.arg("--no-default-keyring");
+        }
+
+        if (isNotBlank(publicKeyring)) {
+            cmd.arg("--keyring")
+                .arg(publicKeyring);
+        }
+
+        cmd.arg("--batch")
+            .arg("--export");
+
+        if (isNotBlank(keyName)) {
+            cmd.arg(keyName);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitValue = new CommandExecutor(logger, true)
+            .executeCommandCapturing(cmd, out, err);
+
+        if (exitValue != 0) {
+            throw new CommandException(RB.$("ERROR_gpg_command_failed", exitValue, err.toString().trim()));
+        }
+
+        return out.toByteArray();
+    }
+
     public byte[] sign(byte[] in) throws CommandException {
         try {
             Path input = Files.createTempFile("jreleaser", "sign-input");
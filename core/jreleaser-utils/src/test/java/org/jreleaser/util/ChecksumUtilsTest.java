@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ChecksumUtilsTest {
+    @Test
+    public void streamingChecksumsMatchInMemoryChecksums() throws IOException {
+        // given:
+        byte[] data = new byte[200 * 1024 + 17];
+        new Random(42).nextBytes(data);
+        Path file = Files.createTempFile("checksum", ".bin");
+        Files.write(file, data);
+
+        // when:
+        Map<Algorithm, String> checksums = ChecksumUtils.checksum(EnumSet.allOf(Algorithm.class), file);
+
+        // then:
+        for (Algorithm algorithm : Algorithm.values()) {
+            assertThat(algorithm.name(), checksums.get(algorithm), equalTo(ChecksumUtils.checksum(algorithm, data)));
+        }
+        assertThat(checksums.keySet(), equalTo(EnumSet.allOf(Algorithm.class)));
+        assertThat(ChecksumUtils.checksum(Arrays.asList(Algorithm.SHA_256), file).get(Algorithm.SHA_256),
+            equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, data)));
+    }
+
+    @Test
+    public void teeReceivesEveryByteRead() throws IOException {
+        // given:
+        byte[] data = new byte[3 * 1024 * 1024 + 5];
+        new Random(7).nextBytes(data);
+        Path file = Files.createTempFile("checksum", ".bin");
+        Files.write(file, data);
+        ByteArrayOutputStream tee = new ByteArrayOutputStream();
+
+        // when:
+        Map<Algorithm, String> checksums = ChecksumUtils.checksum(Arrays.asList(Algorithm.SHA_256), file, tee);
+
+        // then:
+        assertThat(tee.toByteArray(), equalTo(data));
+        assertThat(checksums.get(Algorithm.SHA_256), equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, data)));
+    }
+
+    @Test
+    public void checksumOfEmptyFile() throws IOException {
+        // given:
+        Path file = Files.createTempFile("checksum", ".bin");
+
+        // when:
+        String checksum = ChecksumUtils.checksum(Algorithm.SHA_256, file);
+
+        // then:
+        assertThat(checksum, equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, new byte[0])));
+    }
+
+    @ParameterizedTest
+    @MethodSource("known_digests")
+    public void knownDigests(int length, String xxh3, String blake3) throws IOException {
+        // given:
+        byte[] data = sequence(length);
+
+        // when:
+        String xxh3Digest = ChecksumUtils.checksum(Algorithm.XXH3, data);
+        String blake3Digest = ChecksumUtils.checksum(Algorithm.BLAKE3, data);
+
+        // then:
+        assertThat(xxh3Digest, equalTo(xxh3));
+        assertThat(blake3Digest, equalTo(blake3));
+    }
+
+    @ParameterizedTest
+    @MethodSource("known_digests")
+    public void splitPointsDoNotChangeTheDigest(int length, String xxh3, String blake3) throws IOException {
+        // given:
+        byte[] data = sequence(length);
+        int[] chunks = {1, 7, 63, 64, 65, 1000, 1024, 1088, 4096};
+
+        for (Algorithm algorithm : Arrays.asList(Algorithm.XXH3, Algorithm.BLAKE3)) {
+            String expected = algorithm == Algorithm.XXH3 ? xxh3 : blake3;
+            for (int chunk : chunks) {
+                // when:
+                ChecksumUtils.Digester digester = ChecksumUtils.digester(algorithm);
+                for (int offset = 0; offset < length; offset += chunk) {
+                    digester.update(data, offset, Math.min(chunk, length - offset));
+                }
+
+                // then:
+                assertThat(algorithm + " in chunks of " + chunk, digester.hex(), equalTo(expected));
+            }
+
+            for (int split = 0; split <= length; split += Math.max(1, length / 37)) {
+                // when:
+                ChecksumUtils.Digester digester = ChecksumUtils.digester(algorithm);
+                digester.update(data, 0, split);
+                digester.update(data, split, 0);
+                digester.update(data, split, length - split);
+
+                // then:
+                assertThat(algorithm + " split at " + split, digester.hex(), equalTo(expected));
+            }
+        }
+    }
+
+    private static byte[] sequence(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i % 251);
+        }
+        return data;
+    }
+
+    private static Stream<Arguments> known_digests() {
+        // input of each length is the byte sequence 0, 1, ..., 250, 0, 1, ...
+        return Stream.of(
+            Arguments.of(0, "2d06800538d394c2", "af1349b9f5f9a1a6a0404dea36dcc9499bcb25c9adc112b7cc9a93cae41f3262"),
+            Arguments.of(1, "c44bdff4074eecdb", "2d3adedff11b61f14c886e35afa036736dcd87a74d27b5c1510225d0f592e213"),
+            Arguments.of(3, "5f4299fc161c9cbb", "e1be4d7a8ab5560aa4199eea339849ba8e293d55ca0a81006726d184519e647f"),
+            Arguments.of(4, "60dab036a58211f2", "f30f5ab28fe047904037f77b6da4fea1e27241c5d132638d8bedce9d40494f32"),
+            Arguments.of(8, "3a1c2d7c85af88f8", "2351207d04fc16ade43ccab08600939c7c1fa70a5c0aaca76063d04c3228eaeb"),
+            Arguments.of(9, "e9612598145bb9dc", "a0fc27e5d7318b723207637bdeeba4f7dcb22f7f9ec3e8b6f3588ddcd4fdf861"),
+            Arguments.of(16, "8355e3a6f61770db", "a6a492965517a830cb75fdb713465aa465f2f098233896fea44c1d98268bf9e3"),
+            Arguments.of(17, "9ef341a99de37328", "8462aa7be93b09fda7b93cf9f9cddb703f6dd2cc0c8edd5f9eee092edf8abf0c"),
+            Arguments.of(128, "85c6174c7ff4c46b", "f17e570564b26578c33bb7f44643f539624b05df1a76c81f30acd548c44b45ef"),
+            Arguments.of(129, "ec7642b431ba3e5a", "683aaae9f3c5ba37eaaf072aed0f9e30bac0865137bae68b1fde4ca2aebdcb12"),
+            Arguments.of(240, "375a384d957fe865", "45e1a0dc23dbe51733d7269a3c0f519c2a63b0718835b2b537677eba734db0d8"),
+            Arguments.of(241, "02e8cd95421c6d02", "749b36ae651c22e8567db692a6876e0ca4fd3daeb7aa8fa3ab2f642ccc69a8f6"),
+            Arguments.of(1024, "e5d78bafa45b2aa5", "42214739f095a406f3fc83deb889744ac00df831c10daa55189b5d121c855af7"),
+            Arguments.of(1088, "1a848d807034c403", "34cb29f8331fab983df7f8d4c17846a186d68e1aa790983ccc00065ce27926c5"),
+            Arguments.of(1089, "a51e35ec282cb1d8", "f659f83b781e131c8c7c509ddffa4f88f65db90a5958af961dc8d6f83d976fb5"),
+            Arguments.of(2048, "25339063db861586", "e776b6028c7cd22a4d0ba182a8bf62205d2ef576467e838ed6f2529b85fba24a"),
+            Arguments.of(5000, "b418500fc42320ee", "ee78d92070de3df1c57c37002abf0a6b1a6589acdeef4d8ffac7cf3d9e8f2836"),
+            Arguments.of(100000, "42c23aeead96750d", "d93c23eedaf165a7e0be908ba86f1a7a520d568d2d13cde787c8580c5c72cc54"));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ConcurrencyUtilsTest {
+    @Test
+    public void mapKeepsInputOrder() throws InterruptedException {
+        // given:
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input.add(i);
+        }
+
+        // when:
+        List<Integer> output = ConcurrencyUtils.map("test", 8, input, i -> {
+            Thread.sleep(100 - i);
+            return i * 2;
+        });
+
+        // then:
+        for (int i = 0; i < input.size(); i++) {
+            assertThat(output.get(i), equalTo(i * 2));
+        }
+    }
+
+    @Test
+    public void forEachRethrowsCheckedException() {
+        // given:
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            input.add(i);
+        }
+
+        // expect:
+        IOException e = assertThrows(IOException.class, () ->
+            ConcurrencyUtils.forEach("test", 4, input, i -> {
+                if (i == 5) throw new IOException("boom");
+            }));
+        assertThat(e.getMessage(), equalTo("boom"));
+    }
+
+    @Test
+    public void mapOrderedConsumesInInputOrder() throws InterruptedException {
+        // given:
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input.add(i);
+        }
+
+        // when:
+        List<Integer> output = new ArrayList<>();
+        ConcurrencyUtils.mapOrdered("test", 8, input, i -> {
+            Thread.sleep((100 - i) % 7);
+            return i * 2;
+        }, output::add);
+
+        // then:
+        for (int i = 0; i < input.size(); i++) {
+            assertThat(output.get(i), equalTo(i * 2));
+        }
+    }
+
+    @Test
+    public void failureWaitsForRunningTasks() {
+        // given:
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            input.add(i);
+        }
+        AtomicInteger running = new AtomicInteger();
+
+        // when:
+        assertThrows(IOException.class, () ->
+            ConcurrencyUtils.mapOrdered("test", 4, input, i -> {
+                running.incrementAndGet();
+                try {
+                    if (i == 0) throw new IOException("boom");
+                    // not interruptible, like blocking file IO
+                    long deadline = System.nanoTime() + 200_000_000L;
+                    while (System.nanoTime() < deadline) {
+                        Thread.yield();
+                    }
+                    return i;
+                } finally {
+                    running.decrementAndGet();
+                }
+            }, i -> {
+            }));
+
+        // then:
+        assertThat(running.get(), equalTo(0));
+    }
+}
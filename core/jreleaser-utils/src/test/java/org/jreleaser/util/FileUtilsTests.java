@@ -17,7 +17,10 @@
  */
 package org.jreleaser.util;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.jreleaser.test.Platform;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -25,7 +28,20 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -35,7 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class FileUtilsTests {
     @ParameterizedTest
     @EnumSource(value = FileType.class,
-        names = {"TAR", "TAR_BZ2", "TAR_GZ", "TAR_XZ", "TBZ2", "TGZ", "TXZ", "ZIP"})
+        names = {"TAR", "TAR_BZ2", "TAR_GZ", "TAR_XZ", "TAR_ZST", "TBZ2", "TGZ", "TXZ", "TZST", "ZIP"})
     @Platform(platform = "windows", match = false)
     public void unpackArchiveWithExecutable(FileType fileType) throws IOException {
         // given:
@@ -55,4 +71,187 @@ public class FileUtilsTests {
         assertTrue(() -> Files.exists(executable), "executable exists");
         assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
     }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class,
+        names = {"TAR", "TAR_BZ2", "TAR_GZ", "TAR_XZ", "TAR_ZST", "ZIP"})
+    @Platform(platform = "windows", match = false)
+    public void packAndUnpackArchive(FileType fileType) throws IOException {
+        // given:
+        Path src = Files.createTempDirectory("src").resolve("app-1.0.0");
+        Files.createDirectories(src.resolve("bin"));
+        Files.createDirectories(src.resolve("lib"));
+        byte[] data = new byte[5 * 1024 * 1024 + 11];
+        new Random(13).nextBytes(data);
+        Files.write(src.resolve("lib/modules"), data);
+        Files.write(src.resolve("bin/executable"), "#!/bin/sh".getBytes());
+        FileUtils.grantExecutableAccess(src.resolve("bin/executable"));
+        Path archive = Files.createTempDirectory("archive").resolve("app-1.0.0" + fileType.extension());
+        Path tmp = Files.createTempDirectory(fileType.name());
+
+        // when:
+        pack(fileType, src.getParent(), archive);
+        FileUtils.unpackArchive(archive, tmp, false);
+
+        // then:
+        Path modules = tmp.resolve("app-1.0.0").resolve("lib/modules");
+        assertTrue(() -> Arrays.equals(data, readAllBytes(modules)), "lib/modules is unchanged");
+        Path executable = tmp.resolve("app-1.0.0").resolve("bin/executable");
+        assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class,
+        names = {"TAR", "TAR_BZ2", "TAR_GZ", "TAR_XZ", "TAR_ZST", "TBZ2", "TGZ", "TXZ", "TZST", "ZIP"})
+    public void inspectArchiveListsEveryEntry(FileType fileType) throws IOException {
+        // given:
+        Path resourcesDir = Paths.get(".")
+            .resolve("src/test/resources")
+            .normalize();
+        Path archive = resourcesDir.resolve("app-1.0.0" + fileType.extension());
+
+        // when:
+        List<String> entries = FileUtils.inspectArchive(archive);
+        List<String> cached = FileUtils.inspectArchive(archive);
+
+        // then:
+        assertTrue(() -> entries.contains("app-1.0.0/LICENSE"), "LICENSE is listed");
+        assertTrue(() -> entries.contains("app-1.0.0/bin/executable"), "executable is listed");
+        assertThat(cached, equalTo(entries));
+    }
+
+    @ParameterizedTest
+    @EnumSource(StagingStrategy.class)
+    public void stageFileReplacesExistingTarget(StagingStrategy strategy) throws IOException {
+        // given:
+        Path dir = Files.createTempDirectory(strategy.name());
+        Path src = dir.resolve("app.jar");
+        Path dest = dir.resolve("work").resolve("app.jar");
+        Files.write(src, "contents".getBytes());
+        Files.createDirectories(dest.getParent());
+        Files.write(dest, "stale".getBytes());
+
+        // when:
+        FileUtils.stageFile(src, dest, strategy, REPLACE_EXISTING);
+
+        // then:
+        assertThat(new String(readAllBytes(dest)), equalTo("contents"));
+        assertThat(Files.isSameFile(src, dest), equalTo(strategy == StagingStrategy.HARDLINK));
+    }
+
+    @Test
+    @Platform(platform = "windows", match = false)
+    public void archiveFansOutToEveryFormat() throws IOException {
+        // given:
+        Path src = Files.createTempDirectory("src").resolve("app-1.0.0");
+        Files.createDirectories(src.resolve("bin"));
+        Files.createDirectories(src.resolve("lib"));
+        byte[] data = new byte[300 * 1024 + 5];
+        new Random(17).nextBytes(data);
+        Files.write(src.resolve("lib/modules"), data);
+        Files.write(src.resolve("bin/executable"), "#!/bin/sh".getBytes());
+        FileUtils.grantExecutableAccess(src.resolve("bin/executable"));
+        Path dir = Files.createTempDirectory("archive");
+        Map<FileType, Path> archives = new LinkedHashMap<>();
+        for (FileType fileType : EnumSet.of(FileType.ZIP, FileType.TAR, FileType.TGZ, FileType.TAR_XZ, FileType.TBZ2, FileType.TZST)) {
+            archives.put(fileType, dir.resolve("app-1.0.0" + fileType.extension()));
+        }
+
+        // when:
+        FileUtils.archive(src.getParent(), archives);
+
+        // then:
+        for (Path archive : archives.values()) {
+            Path tmp = Files.createTempDirectory("unpack");
+            FileUtils.unpackArchive(archive, tmp, false);
+            Path modules = tmp.resolve("app-1.0.0").resolve("lib/modules");
+            assertTrue(() -> Arrays.equals(data, readAllBytes(modules)), archive + " lib/modules is unchanged");
+            Path executable = tmp.resolve("app-1.0.0").resolve("bin/executable");
+            assertTrue(() -> Files.isExecutable(executable), archive + " executable has executable bit set");
+        }
+    }
+
+    @Test
+    public void zipEntriesFollowWalkOrder() throws IOException {
+        // given:
+        Path src = Files.createTempDirectory("src");
+        for (int i = 0; i < 200; i++) {
+            Path file = src.resolve("dir" + (i % 7)).resolve("file" + i + ".txt");
+            Files.createDirectories(file.getParent());
+            Files.write(file, ("content " + i).getBytes());
+        }
+        Path archive = Files.createTempDirectory("archive").resolve("files.zip");
+
+        // when:
+        FileUtils.zip(src, archive);
+
+        // then:
+        List<String> expected;
+        try (Stream<Path> files = Files.walk(src)) {
+            expected = files.filter(Files::isRegularFile)
+                .map(file -> src.relativize(file).toString())
+                .collect(Collectors.toList());
+        }
+        List<String> actual = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntriesInPhysicalOrder();
+            while (entries.hasMoreElements()) {
+                actual.add(entries.nextElement().getName());
+            }
+        }
+        assertThat(actual, equalTo(expected));
+    }
+
+    @Test
+    public void zipStoreOnlyKeepsEntriesUncompressed() throws IOException {
+        // given:
+        Path src = Files.createTempDirectory("src");
+        byte[] content = new byte[4096];
+        Arrays.fill(content, (byte) 'a');
+        Files.write(src.resolve("file.txt"), content);
+        Path archive = Files.createTempDirectory("archive").resolve("files.zip");
+
+        // when:
+        FileUtils.zip(src, archive, CompressionOptions.of(null, null, true));
+
+        // then:
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            ZipArchiveEntry entry = zipFile.getEntry("file.txt");
+            assertThat(entry.getMethod(), equalTo(ZipArchiveEntry.STORED));
+            assertThat(entry.getCompressedSize(), equalTo((long) content.length));
+        }
+    }
+
+    private static void pack(FileType fileType, Path src, Path dest) throws IOException {
+        switch (fileType) {
+            case ZIP:
+                FileUtils.zip(src, dest);
+                break;
+            case TAR:
+                FileUtils.tar(src, dest);
+                break;
+            case TAR_BZ2:
+                FileUtils.bz2(src, dest);
+                break;
+            case TAR_GZ:
+                FileUtils.tgz(src, dest);
+                break;
+            case TAR_XZ:
+                FileUtils.xz(src, dest);
+                break;
+            case TAR_ZST:
+                FileUtils.zst(src, dest, CompressionOptions.of(3, null, false).withThreads(2));
+                break;
+            default:
+                throw new IllegalArgumentException(fileType.name());
+        }
+    }
+
+    private static byte[] readAllBytes(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class MustacheUtilsTest {
+    @Test
+    public void reusedTemplateRendersEachContext() {
+        // given:
+        String template = "{{projectName}}-{{projectVersion}}";
+
+        // when:
+        String first = MustacheUtils.applyTemplate(template, props("app", "1.0.0"));
+        String second = MustacheUtils.applyTemplate(template, props("tool", "2.0.0"));
+        String third = MustacheUtils.applyTemplate(new StringReader(template), props("lib", "3.0.0"));
+
+        // then:
+        assertThat(first, equalTo("app-1.0.0"));
+        assertThat(second, equalTo("tool-2.0.0"));
+        assertThat(third, equalTo("lib-3.0.0"));
+    }
+
+    @Test
+    public void passThroughValuesAreNotEscaped() {
+        // given:
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("url", MustacheUtils.passThrough("https://example.com/?a=1&b=2"));
+
+        // when:
+        String result = MustacheUtils.applyTemplate("{{url}}", props);
+
+        // then:
+        assertThat(result, equalTo("https://example.com/?a=1&b=2"));
+    }
+
+    @Test
+    public void partialsAreResolvedForEachContext() {
+        // given:
+        String template = "{{> partials/header.mustache}} / {{projectName}}";
+
+        // when:
+        String first = MustacheUtils.applyTemplate(template, props("app", "1.0.0"));
+        String second = MustacheUtils.applyTemplate(template, props("tool", "2.0.0"));
+
+        // then:
+        assertThat(first, equalTo("# app 1.0.0 / app"));
+        assertThat(second, equalTo("# tool 2.0.0 / tool"));
+    }
+
+    @Test
+    public void concurrentRendersDoNotInterfere() {
+        // given:
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(i);
+        }
+
+        // when:
+        List<String> results = ConcurrencyUtils.map("test", 8, items,
+            i -> MustacheUtils.applyTemplate("{{projectName}}-{{projectVersion}}", props("app" + i, String.valueOf(i))));
+
+        // then:
+        for (int i = 0; i < items.size(); i++) {
+            assertThat(results.get(i), equalTo("app" + i + "-" + i));
+        }
+    }
+
+    @Test
+    public void environmentIsResolvedWithoutCopyingIntoTheContext() {
+        // given:
+        Map<String, Object> props = props("app", "1.0.0");
+        props.put(Constants.KEY_ENVIRONMENT, Collections.singletonMap("DEPLOY_TARGET", "staging"));
+
+        // when:
+        String fromEnvironment = MustacheUtils.applyTemplate("{{Env.DEPLOY_TARGET}}", props, "env");
+        props.put("Env.DEPLOY_TARGET", "production");
+        String fromContext = MustacheUtils.applyTemplate("{{Env.DEPLOY_TARGET}}", props, "env");
+
+        // then:
+        assertThat(fromEnvironment, equalTo("staging"));
+        assertThat(fromContext, equalTo("production"));
+        assertThat(props.size(), equalTo(4));
+    }
+
+    private static Map<String, Object> props(String name, String version) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("projectName", name);
+        props.put("projectVersion", version);
+        return props;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ParallelGzipOutputStreamTest {
+    @ParameterizedTest
+    @MethodSource("lengths_and_block_sizes")
+    public void outputIsReadableAsGzip(int length, int blockSize) throws IOException {
+        // given:
+        byte[] data = new byte[length];
+        Random random = new Random(length);
+        for (int i = 0; i < data.length; i++) {
+            // compressible yet not trivially repetitive, exercises the primed dictionary
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+
+        // when:
+        byte[] compressed = gzip(data, blockSize);
+
+        // then:
+        assertThat(gunzip(compressed), equalTo(data));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {32 * 1024, 48 * 1024 + 5, ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE})
+    public void tarOfSourcesIsReadableAsGzip(int blockSize) throws IOException {
+        // given:
+        byte[] data = tar(Paths.get(".").resolve("src").normalize());
+
+        // when:
+        byte[] compressed = gzip(data, blockSize);
+
+        // then:
+        assertThat(data.length / blockSize, greaterThan(2));
+        assertThat(gunzip(compressed), equalTo(data));
+    }
+
+    private static Stream<Arguments> lengths_and_block_sizes() {
+        return IntStream.of(32 * 1024, 48 * 1024 + 5, ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE)
+            .boxed()
+            .flatMap(blockSize -> IntStream.of(0, 1, 32 * 1024, 32 * 1024 + 1, 500 * 1024 + 3)
+                .mapToObj(length -> Arguments.of(length, blockSize)));
+    }
+
+    private static byte[] gzip(byte[] data, int blockSize) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(compressed, Deflater.DEFAULT_COMPRESSION, blockSize, 3)) {
+            // uneven writes cross block boundaries
+            for (int off = 0; off < data.length; off += 7000) {
+                out.write(data, off, Math.min(7000, data.length - off));
+            }
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] tar(Path dir) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(dir)) {
+            files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream out = new TarArchiveOutputStream(result)) {
+            out.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            for (Path file : files) {
+                TarArchiveEntry entry = new TarArchiveEntry(file.toFile(), dir.relativize(file).toString());
+                out.putArchiveEntry(entry);
+                Files.copy(file, out);
+                out.closeArchiveEntry();
+            }
+        }
+        return result.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                result.write(buffer, 0, n);
+            }
+        }
+        return result.toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ParallelXZOutputStreamTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 64 * 1024, 64 * 1024 + 1, 300 * 1024 + 3})
+    public void outputIsASingleXZStream(int length) throws IOException {
+        // given:
+        byte[] data = new byte[length];
+        Random random = new Random(length);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+
+        // when:
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelXZOutputStream out = new ParallelXZOutputStream(compressed, 1, 64 * 1024, 3)) {
+            // uneven writes cross block boundaries
+            for (int off = 0; off < data.length; off += 7000) {
+                out.write(data, off, Math.min(7000, data.length - off));
+            }
+        }
+
+        // then:
+        // commons-compress reads a single stream by default, blocks must not be separate streams
+        assertThat(unxz(compressed.toByteArray()), equalTo(data));
+    }
+
+    @Test
+    public void threadsAreCappedByAvailableMemory() throws IOException {
+        // given:
+        int dictSize = 8 * 1024 * 1024;
+        int blockSize = 3 * dictSize;
+
+        // expect:
+        assertThat(ParallelXZOutputStream.limitThreads(16, 6, dictSize, blockSize, 512L * 1024 * 1024), equalTo(1));
+        assertThat(ParallelXZOutputStream.limitThreads(16, 6, dictSize, blockSize, 1024L * 1024 * 1024), equalTo(2));
+        assertThat(ParallelXZOutputStream.limitThreads(16, 6, dictSize, blockSize, 64L * 1024 * 1024), equalTo(1));
+        assertThat(ParallelXZOutputStream.limitThreads(4, 6, dictSize, blockSize, 64L * 1024 * 1024 * 1024), equalTo(4));
+    }
+
+    private static byte[] unxz(byte[] compressed) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream in = new XZCompressorInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                result.write(buffer, 0, n);
+            }
+        }
+        return result.toByteArray();
+    }
+}
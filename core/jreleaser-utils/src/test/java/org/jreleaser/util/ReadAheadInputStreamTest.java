@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.utils.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class ReadAheadInputStreamTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1024, 1025, 100 * 1024 + 7})
+    public void readsEveryByteInOrder(int length) throws IOException {
+        // given:
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+
+        // when:
+        byte[] actual;
+        try (InputStream in = new ReadAheadInputStream("test", new ByteArrayInputStream(data), 1024, 2)) {
+            actual = IOUtils.toByteArray(in);
+        }
+
+        // then:
+        assertThat(actual, equalTo(data));
+    }
+
+    @Test
+    public void rethrowsFailuresOfTheDelegate() throws IOException {
+        // given:
+        InputStream failing = new InputStream() {
+            private int count;
+
+            @Override
+            public int read() throws IOException {
+                if (count++ >= 3000) throw new IOException("boom");
+                return 'a';
+            }
+        };
+
+        // when:
+        try (InputStream in = new ReadAheadInputStream("test", failing, 1024, 2)) {
+            IOException e = assertThrows(IOException.class, () -> IOUtils.toByteArray(in));
+
+            // then:
+            assertThat(e.getMessage(), equalTo("boom"));
+        }
+    }
+
+    @Test
+    public void closeStopsThePump() throws Exception {
+        // given:
+        AtomicBoolean delegateClosed = new AtomicBoolean();
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return 'a';
+            }
+
+            @Override
+            public void close() {
+                delegateClosed.set(true);
+            }
+        };
+
+        // when:
+        InputStream in = new ReadAheadInputStream("test-close", endless, 1024, 2);
+        in.read(new byte[10]);
+        // the pump fills the queue and blocks on it
+        Thread.sleep(100);
+        in.close();
+
+        // then:
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pumpIsAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(pumpIsAlive());
+        assertTrue(delegateClosed.get());
+    }
+
+    @Test
+    public void closeWaitsForThePumpBeforeClosingTheDelegate() throws Exception {
+        // given:
+        AtomicBoolean reading = new AtomicBoolean();
+        AtomicBoolean closedWhileReading = new AtomicBoolean();
+        InputStream slow = new InputStream() {
+            @Override
+            public int read() {
+                return 'a';
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                reading.set(true);
+                // like a decoder, the read does not react to interrupts
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1500);
+                while (System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                }
+                Arrays.fill(b, off, off + len, (byte) 'a');
+                reading.set(false);
+                return len;
+            }
+
+            @Override
+            public void close() {
+                closedWhileReading.set(reading.get());
+            }
+        };
+
+        // when:
+        InputStream in = new ReadAheadInputStream("test-slow", slow, 1024, 2);
+        while (!reading.get()) {
+            Thread.sleep(10);
+        }
+        in.close();
+
+        // then:
+        assertFalse(closedWhileReading.get());
+    }
+
+    private static boolean pumpIsAlive() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("jreleaser-test-close-") && thread.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
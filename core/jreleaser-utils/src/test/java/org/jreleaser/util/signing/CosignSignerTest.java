@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util.signing;
+
+import org.bouncycastle.crypto.engines.XSalsa20Engine;
+import org.bouncycastle.crypto.generators.SCrypt;
+import org.bouncycastle.crypto.macs.Poly1305;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.bouncycastle.crypto.params.ParametersWithIV;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class CosignSignerTest {
+    private static final byte[] KEY = Hex.decode("1b27556473e985d462cd51197a9a46c76009549eac6474f206c4ee0844f68389");
+    private static final byte[] NONCE = Hex.decode("69696ee955b62b73cd62bda875fc73d68219e0036b7a0b37");
+
+    @BeforeAll
+    public static void setup() {
+        if (null == Security.getProvider(BouncyCastleProvider.PROVIDER_NAME)) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    @Test
+    public void secretboxOpensNaclTestVector() {
+        // given:
+        byte[] box = Hex.decode("f3ffc7703f9400e52a7dfb4b3d3305d98e993b9f48681273c29650ba32fc76ce48332ea7164d96a4476fb8c531a1186ac0dfc17c98dce87b4da7f011ec48c97271d2c20f9b928fe2270d6fb863d51738b48eeee314a7cc8ab932164548e526ae90224368517acfeabd6bb3732bc0e9da99832b61ca01b6de56244a9e88d5f9b37973f622a43d14a6599b1f654cb45a74e355a5");
+
+        // when:
+        byte[] plain = CosignSigner.secretboxOpen(box, NONCE, KEY);
+
+        // then:
+        assertThat(Hex.toHexString(plain), equalTo("be075fc53c81f2d5cf141316ebeb0c7b5228c52a4c62cbd44b66849b64244ffce5ecbaaf33bd751a1ac728d45e6c61296cdc3c01233561f41db66cce314adb310e3be8250c46f06dceea3a7fa1348057e2f6556ad6b1318a024a838f21af1fde048977eb48f59ffd4924ca1c60902e52f0a089bc76897040e082f937763848645e0705"));
+        box[20] ^= 1;
+        assertThat(CosignSigner.secretboxOpen(box, NONCE, KEY), equalTo(null));
+    }
+
+    @Test
+    public void signAndVerifyBlob() throws Exception {
+        // given:
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME);
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Path dir = Files.createTempDirectory("cosign");
+        Path privateKeyFile = dir.resolve("cosign.key");
+        Path publicKeyFile = dir.resolve("cosign.pub");
+        Files.write(privateKeyFile, encryptedKey(keyPair.getPrivate().getEncoded(), "secret".getBytes()).getBytes(UTF_8));
+        Files.write(publicKeyFile, pem("PUBLIC KEY", keyPair.getPublic().getEncoded()).getBytes(UTF_8));
+
+        byte[] data = new byte[100 * 1024 + 3];
+        new Random(11).nextBytes(data);
+        Path input = dir.resolve("artifact.bin");
+        Files.write(input, data);
+        Path signature = dir.resolve("artifact.bin.sig");
+
+        // when:
+        CosignSigner signer = CosignSigner.of(privateKeyFile, "secret".getBytes());
+        Files.write(signature, signer.sign(input));
+
+        // then:
+        assertThat(CosignSigner.verify(CosignSigner.readPublicKey(publicKeyFile), signature, input), equalTo(true));
+        assertThat(CosignSigner.verify(signer.getPublicKey(), signature, input), equalTo(true));
+        data[0] ^= 1;
+        Files.write(input, data);
+        assertThat(CosignSigner.verify(signer.getPublicKey(), signature, input), equalTo(false));
+        assertThrows(SigningException.class, () -> CosignSigner.of(privateKeyFile, "wrong".getBytes()));
+    }
+
+    private static String encryptedKey(byte[] pkcs8, byte[] password) {
+        byte[] salt = new byte[32];
+        byte[] nonce = new byte[24];
+        new Random(3).nextBytes(salt);
+        new Random(5).nextBytes(nonce);
+        byte[] key = SCrypt.generate(password, salt, 16, 8, 1, 32);
+
+        String json = "{\"kdf\":{\"name\":\"scrypt\",\"params\":{\"N\":16,\"r\":8,\"p\":1},\"salt\":\"" + b64(salt) + "\"}," +
+            "\"cipher\":{\"name\":\"nacl/secretbox\",\"nonce\":\"" + b64(nonce) + "\"}," +
+            "\"ciphertext\":\"" + b64(seal(pkcs8, nonce, key)) + "\"}";
+        return pem("ENCRYPTED COSIGN PRIVATE KEY", json.getBytes(UTF_8));
+    }
+
+    private static byte[] seal(byte[] plain, byte[] nonce, byte[] key) {
+        XSalsa20Engine cipher = new XSalsa20Engine();
+        cipher.init(true, new ParametersWithIV(new KeyParameter(key), nonce));
+
+        byte[] authKey = new byte[32];
+        cipher.processBytes(authKey, 0, authKey.length, authKey, 0);
+
+        byte[] box = new byte[16 + plain.length];
+        cipher.processBytes(plain, 0, plain.length, box, 16);
+
+        Poly1305 mac = new Poly1305();
+        mac.init(new KeyParameter(authKey));
+        mac.update(box, 16, plain.length);
+        mac.doFinal(box, 0);
+        return box;
+    }
+
+    private static String pem(String type, byte[] content) {
+        return "-----BEGIN " + type + "-----\n" +
+            Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(content) +
+            "\n-----END " + type + "-----\n";
+    }
+
+    private static String b64(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
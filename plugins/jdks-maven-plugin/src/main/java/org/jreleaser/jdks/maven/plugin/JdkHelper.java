@@ -31,7 +31,6 @@ import org.jreleaser.util.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -138,7 +137,7 @@ public class JdkHelper {
         try {
             // calculate checksum
             Path input = new File(jdkExtractDirectory, filename).toPath();
-            String calculatedChecksum = ChecksumUtils.checksum(Algorithm.of(algo), Files.readAllBytes(input));
+            String calculatedChecksum = ChecksumUtils.checksum(Algorithm.of(algo), input);
 
             // verify checksum
             log.info("Verifying " + filename);
@@ -18,6 +18,7 @@
 package org.jreleaser.gradle.plugin.dsl
 
 import groovy.transform.CompileStatic
+import org.gradle.api.Action
 import org.gradle.api.provider.Property
 import org.gradle.api.provider.SetProperty
 
@@ -39,4 +40,10 @@ interface Archive extends Assembler {
     SetProperty<org.jreleaser.model.Archive.Format> getFormats()
 
     void format(String format)
+
+    Compression getCompression()
+
+    void compression(Action<? super Compression> action)
+
+    void compression(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Compression) Closure<Void> action)
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ package org.jreleaser.gradle.plugin.dsl
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
 import org.gradle.api.NamedDomainObjectContainer
+import org.gradle.api.provider.Property
+import org.jreleaser.util.StagingStrategy
 
 /**
  *
@@ -28,6 +30,10 @@ import org.gradle.api.NamedDomainObjectContainer
  */
 @CompileStatic
 interface Assemble extends Activatable {
+    Property<StagingStrategy> getStaging()
+
+    void setStaging(String str)
+
     NamedDomainObjectContainer<Archive> getArchive()
 
     NamedDomainObjectContainer<Jlink> getJlink()
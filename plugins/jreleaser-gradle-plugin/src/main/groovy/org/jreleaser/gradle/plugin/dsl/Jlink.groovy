@@ -56,6 +56,12 @@ interface Jlink extends JavaAssembler {
 
     void targetJdk(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Artifact) Closure<Void> action)
 
+    Compression getCompression()
+
+    void compression(Action<? super Compression> action)
+
+    void compression(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Compression) Closure<Void> action)
+
     @CompileStatic
     interface Jdeps {
         Property<String> getMultiRelease()
@@ -65,6 +65,12 @@ interface NativeImage extends JavaAssembler {
 
     void graalJdk(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Artifact) Closure<Void> action)
 
+    Compression getCompression()
+
+    void compression(Action<? super Compression> action)
+
+    void compression(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Compression) Closure<Void> action)
+
     interface Upx extends Activatable {
         Property<String> getVersion()
 
@@ -48,6 +48,10 @@ interface Signing extends Activatable {
 
     Property<Boolean> getChecksums()
 
+    Property<Integer> getParallelism()
+
+    Property<Boolean> getFused()
+
     Command getCommand()
 
     Cosign getCosign()
@@ -71,6 +75,8 @@ interface Signing extends Activatable {
 
         Property<Boolean> getDefaultKeyring()
 
+        Property<Boolean> getVerifyInProcess()
+
         ListProperty<String> getArgs()
 
         void arg(String arg)
@@ -18,13 +18,16 @@
 package org.jreleaser.gradle.plugin.internal.dsl
 
 import groovy.transform.CompileStatic
+import org.gradle.api.Action
 import org.gradle.api.internal.provider.Providers
 import org.gradle.api.model.ObjectFactory
 import org.gradle.api.provider.Property
 import org.gradle.api.provider.SetProperty
 import org.gradle.api.tasks.Internal
 import org.jreleaser.gradle.plugin.dsl.Archive
+import org.jreleaser.gradle.plugin.dsl.Compression
 import org.jreleaser.model.Distribution.DistributionType
+import org.kordamp.gradle.util.ConfigureUtil
 
 import javax.inject.Inject
 
@@ -43,6 +46,7 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
     final Property<Boolean> attachPlatform
     final SetProperty<org.jreleaser.model.Archive.Format> formats
     final PlatformImpl platform
+    final CompressionImpl compression
 
     @Inject
     ArchiveImpl(ObjectFactory objects) {
@@ -52,6 +56,7 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
         attachPlatform = objects.property(Boolean).convention(Providers.notDefined())
         formats = objects.setProperty(org.jreleaser.model.Archive.Format).convention(Providers.notDefined())
         platform = objects.newInstance(PlatformImpl, objects)
+        compression = objects.newInstance(CompressionImpl, objects)
     }
 
     @Internal
@@ -60,7 +65,8 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
             archiveName.present ||
             distributionType.present ||
             attachPlatform.present ||
-            formats.present
+            formats.present ||
+            compression.isSet()
     }
 
     @Override
@@ -75,6 +81,16 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
         }
     }
 
+    @Override
+    void compression(Action<? super Compression> action) {
+        action.execute(compression)
+    }
+
+    @Override
+    void compression(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Compression) Closure<Void> action) {
+        ConfigureUtil.configure(action, compression)
+    }
+
     org.jreleaser.model.Archive toModel() {
         org.jreleaser.model.Archive archive = new org.jreleaser.model.Archive()
         archive.name = name
@@ -84,6 +100,7 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
         archive.platform = platform.toModel()
         archive.distributionType = distributionType.get()
         archive.formats = (Set<org.jreleaser.model.Archive.Format>) formats.getOrElse([] as Set<org.jreleaser.model.Archive.Format>)
+        if (compression.isSet()) archive.compression = compression.toModel()
         archive
     }
 }
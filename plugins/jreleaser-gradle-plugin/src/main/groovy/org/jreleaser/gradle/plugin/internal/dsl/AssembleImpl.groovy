@@ -31,6 +31,7 @@ import org.jreleaser.gradle.plugin.dsl.Jlink
 import org.jreleaser.gradle.plugin.dsl.Jpackage
 import org.jreleaser.gradle.plugin.dsl.NativeImage
 import org.jreleaser.model.Active
+import org.jreleaser.util.StagingStrategy
 import org.kordamp.gradle.util.ConfigureUtil
 
 import javax.inject.Inject
@@ -45,6 +46,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class AssembleImpl implements Assemble {
     final Property<Active> active
+    final Property<StagingStrategy> staging
     final NamedDomainObjectContainer<Archive> archive
     final NamedDomainObjectContainer<Jlink> jlink
     final NamedDomainObjectContainer<Jpackage> jpackage
@@ -53,6 +55,7 @@ class AssembleImpl implements Assemble {
     @Inject
     AssembleImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.notDefined())
+        staging = objects.property(StagingStrategy).convention(Providers.notDefined())
 
         archive = objects.domainObjectContainer(Archive, new NamedDomainObjectFactory<Archive>() {
             @Override
@@ -98,6 +101,13 @@ class AssembleImpl implements Assemble {
         }
     }
 
+    @Override
+    void setStaging(String str) {
+        if (isNotBlank(str)) {
+            staging.set(StagingStrategy.of(str.trim()))
+        }
+    }
+
     @Override
     void archive(Action<? super NamedDomainObjectContainer<Archive>> action) {
         action.execute(archive)
@@ -142,6 +152,7 @@ class AssembleImpl implements Assemble {
     org.jreleaser.model.Assemble toModel() {
         org.jreleaser.model.Assemble assemble = new org.jreleaser.model.Assemble()
         if (active.present) assemble.active = active.get()
+        if (staging.present) assemble.staging = staging.get()
 
         archive.each { assemble.addArchive(((ArchiveImpl) it).toModel()) }
         jlink.each { assemble.addJlink(((JlinkImpl) it).toModel()) }
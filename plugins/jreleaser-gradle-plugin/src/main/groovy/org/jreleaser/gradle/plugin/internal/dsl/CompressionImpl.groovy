@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.gradle.plugin.internal.dsl
+
+import groovy.transform.CompileStatic
+import org.gradle.api.internal.provider.Providers
+import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Internal
+import org.jreleaser.gradle.plugin.dsl.Compression
+
+import javax.inject.Inject
+
+/**
+ *
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+@CompileStatic
+class CompressionImpl implements Compression {
+    final Property<Integer> level
+    final Property<Integer> blockSize
+    final Property<Boolean> storeOnly
+
+    @Inject
+    CompressionImpl(ObjectFactory objects) {
+        level = objects.property(Integer).convention(Providers.notDefined())
+        blockSize = objects.property(Integer).convention(Providers.notDefined())
+        storeOnly = objects.property(Boolean).convention(Providers.notDefined())
+    }
+
+    @Internal
+    boolean isSet() {
+        level.present ||
+            blockSize.present ||
+            storeOnly.present
+    }
+
+    org.jreleaser.model.Compression toModel() {
+        org.jreleaser.model.Compression compression = new org.jreleaser.model.Compression()
+        if (level.present) compression.level = level.get()
+        if (blockSize.present) compression.blockSize = blockSize.get()
+        if (storeOnly.present) compression.storeOnly = storeOnly.get()
+        compression
+    }
+}
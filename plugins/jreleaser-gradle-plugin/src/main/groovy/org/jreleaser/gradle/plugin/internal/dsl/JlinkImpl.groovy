@@ -28,6 +28,7 @@ import org.gradle.api.provider.Property
 import org.gradle.api.provider.SetProperty
 import org.gradle.api.tasks.Internal
 import org.jreleaser.gradle.plugin.dsl.Artifact
+import org.jreleaser.gradle.plugin.dsl.Compression
 import org.jreleaser.gradle.plugin.dsl.Jlink
 import org.jreleaser.model.Active
 import org.kordamp.gradle.util.ConfigureUtil
@@ -52,6 +53,7 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
     final SetProperty<String> additionalModuleNames
     final JavaImpl java
     final PlatformImpl platform
+    final CompressionImpl compression
 
     private final JdepsImpl jdeps
     private final ArtifactImpl jdk
@@ -69,6 +71,7 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         additionalModuleNames = objects.setProperty(String).convention(Providers.notDefined())
         java = objects.newInstance(JavaImpl, objects)
         platform = objects.newInstance(PlatformImpl, objects)
+        compression = objects.newInstance(CompressionImpl, objects)
         jdeps = objects.newInstance(JdepsImpl, objects)
         jdk = objects.newInstance(ArtifactImpl, objects)
         jdk.setName('jdk')
@@ -96,7 +99,8 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
             moduleNames.present ||
             additionalModuleNames.present ||
             !targetJdks.isEmpty() ||
-            platform.isSet()
+            platform.isSet() ||
+            compression.isSet()
     }
 
     @Override
@@ -106,6 +110,11 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         }
     }
 
+    @Override
+    void compression(Action<? super Compression> action) {
+        action.execute(compression)
+    }
+
     @Override
     void jdeps(Action<? super Jdeps> action) {
         action.execute(jdeps)
@@ -128,6 +137,11 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         }
     }
 
+    @Override
+    void compression(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Compression) Closure<Void> action) {
+        ConfigureUtil.configure(action, compression)
+    }
+
     @Override
     void jdeps(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Jdeps) Closure<Void> action) {
         ConfigureUtil.configure(action, jdeps)
@@ -155,6 +169,7 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         if (imageName.present) jlink.imageName = imageName.get()
         if (imageNameTransform.present) jlink.imageNameTransform = imageNameTransform.get()
         if (copyJars.present) jlink.copyJars = copyJars.get()
+        if (compression.isSet()) jlink.compression = compression.toModel()
         jlink.moduleNames = (Set<String>) moduleNames.getOrElse([] as Set)
         jlink.additionalModuleNames = (Set<String>) additionalModuleNames.getOrElse([] as Set)
         for (ArtifactImpl artifact : targetJdks) {
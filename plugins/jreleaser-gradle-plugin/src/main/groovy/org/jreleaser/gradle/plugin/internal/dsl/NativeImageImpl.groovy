@@ -27,6 +27,7 @@ import org.gradle.api.provider.ListProperty
 import org.gradle.api.provider.Property
 import org.gradle.api.tasks.Internal
 import org.jreleaser.gradle.plugin.dsl.Artifact
+import org.jreleaser.gradle.plugin.dsl.Compression
 import org.jreleaser.gradle.plugin.dsl.NativeImage
 import org.jreleaser.model.Active
 import org.jreleaser.model.Archive
@@ -50,6 +51,7 @@ class NativeImageImpl extends AbstractJavaAssembler implements NativeImage {
     final ListProperty<String> args
     final JavaImpl java
     final PlatformImpl platform
+    final CompressionImpl compression
 
     private final ArtifactImpl graal
     private final UpxImpl upx
@@ -68,6 +70,7 @@ class NativeImageImpl extends AbstractJavaAssembler implements NativeImage {
         args = objects.listProperty(String).convention(Providers.notDefined())
         java = objects.newInstance(JavaImpl, objects)
         platform = objects.newInstance(PlatformImpl, objects)
+        compression = objects.newInstance(CompressionImpl, objects)
         graal = objects.newInstance(ArtifactImpl, objects)
         graal.setName('graal')
         upx = objects.newInstance(UpxImpl, objects)
@@ -99,6 +102,7 @@ class NativeImageImpl extends AbstractJavaAssembler implements NativeImage {
             imageNameTransform.present ||
             args.present ||
             java.isSet() ||
+            compression.isSet() ||
             graal.isSet() ||
             upx.isSet() ||
             linux.isSet() ||
@@ -114,6 +118,11 @@ class NativeImageImpl extends AbstractJavaAssembler implements NativeImage {
         }
     }
 
+    @Override
+    void compression(Action<? super Compression> action) {
+        action.execute(compression)
+    }
+
     @Override
     void graal(Action<? super Artifact> action) {
         action.execute(graal)
@@ -144,6 +153,11 @@ class NativeImageImpl extends AbstractJavaAssembler implements NativeImage {
         action.execute(graalJdks.maybeCreate("graalJdk-${graalJdks.size()}".toString()))
     }
 
+    @Override
+    void compression(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Compression) Closure<Void> action) {
+        ConfigureUtil.configure(action, compression)
+    }
+
     @Override
     void graal(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Artifact) Closure<Void> action) {
         ConfigureUtil.configure(action, graal)
@@ -191,6 +205,7 @@ class NativeImageImpl extends AbstractJavaAssembler implements NativeImage {
         if (imageNameTransform.present) nativeImage.imageNameTransform = imageNameTransform.get()
         nativeImage.archiveFormat = archiveFormat.get()
         nativeImage.args = (List<String>) args.getOrElse([])
+        if (compression.isSet()) nativeImage.compression = compression.toModel()
         if (graal.isSet()) nativeImage.graal = graal.toModel()
         if (upx.isSet()) nativeImage.upx = upx.toModel()
         if (linux.isSet()) nativeImage.linux = linux.toModel()
@@ -49,6 +49,8 @@ class SigningImpl implements Signing {
     final Property<Boolean> artifacts
     final Property<Boolean> files
     final Property<Boolean> checksums
+    final Property<Integer> parallelism
+    final Property<Boolean> fused
     final Command command
     final Cosign cosign
 
@@ -63,6 +65,8 @@ class SigningImpl implements Signing {
         artifacts = objects.property(Boolean).convention(Providers.notDefined())
         files = objects.property(Boolean).convention(Providers.notDefined())
         checksums = objects.property(Boolean).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
+        fused = objects.property(Boolean).convention(Providers.notDefined())
         command = objects.newInstance(CommandImpl, objects)
         cosign = objects.newInstance(CosignImpl, objects)
     }
@@ -76,6 +80,8 @@ class SigningImpl implements Signing {
             artifacts.present ||
             files.present ||
             checksums.present ||
+            parallelism.present ||
+            fused.present ||
             secretKey.present ||
             ((CommandImpl) command).isSet() ||
             ((CosignImpl) cosign).isSet()
@@ -126,6 +132,8 @@ class SigningImpl implements Signing {
         if (artifacts.present) signing.artifacts = artifacts.get()
         if (files.present) signing.files = files.get()
         if (checksums.present) signing.checksums = checksums.get()
+        if (parallelism.present) signing.parallelism = parallelism.get()
+        if (fused.present) signing.fused = fused.get()
         signing.command = ((CommandImpl) command).toModel()
         signing.cosign = ((CosignImpl) cosign).toModel()
         signing
@@ -137,6 +145,7 @@ class SigningImpl implements Signing {
         final Property<String> homeDir
         final Property<String> publicKeyring
         final Property<Boolean> defaultKeyring
+        final Property<Boolean> verifyInProcess
         final ListProperty<String> args
 
         @Inject
@@ -146,6 +155,7 @@ class SigningImpl implements Signing {
             homeDir = objects.property(String).convention(Providers.notDefined())
             publicKeyring = objects.property(String).convention(Providers.notDefined())
             defaultKeyring = objects.property(Boolean).convention(Providers.notDefined())
+            verifyInProcess = objects.property(Boolean).convention(Providers.notDefined())
             args = objects.listProperty(String).convention(Providers.notDefined())
         }
 
@@ -156,6 +166,7 @@ class SigningImpl implements Signing {
                 homeDir.present ||
                 publicKeyring.present ||
                 defaultKeyring.present ||
+                verifyInProcess.present ||
                 args.present
         }
 
@@ -173,6 +184,7 @@ class SigningImpl implements Signing {
             if (homeDir.present) command.homeDir = homeDir.get()
             if (publicKeyring.present) command.publicKeyring = publicKeyring.get()
             if (defaultKeyring.present) command.defaultKeyring = defaultKeyring.get()
+            if (verifyInProcess.present) command.verifyInProcess = verifyInProcess.get()
             command.args = (List<String>) args.getOrElse([])
             command
         }
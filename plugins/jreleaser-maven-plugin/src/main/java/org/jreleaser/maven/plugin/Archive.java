@@ -28,6 +28,7 @@ import static org.jreleaser.util.StringUtils.isBlank;
  */
 public class Archive extends AbstractAssembler {
     private final Set<Format> formats = new LinkedHashSet<>();
+    private final Compression compression = new Compression();
 
     private String archiveName;
     private Boolean attachPlatform;
@@ -41,6 +42,14 @@ public class Archive extends AbstractAssembler {
         this.distributionType = distributionType;
     }
 
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression.setAll(compression);
+    }
+
     public String getArchiveName() {
         return archiveName;
     }
@@ -80,9 +89,11 @@ public class Archive extends AbstractAssembler {
         TAR_BZ2,
         TAR_GZ,
         TAR_XZ,
+        TAR_ZST,
         TBZ2,
         TGZ,
-        TXZ;
+        TXZ,
+        TZST;
 
         public static Format of(String str) {
             if (isBlank(str)) return null;
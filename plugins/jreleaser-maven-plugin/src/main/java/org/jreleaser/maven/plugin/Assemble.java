@@ -17,6 +17,8 @@
  */
 package org.jreleaser.maven.plugin;
 
+import org.jreleaser.util.StagingStrategy;
+
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -30,9 +32,11 @@ public class Assemble implements Activatable {
     private final Map<String, Jpackage> jpackage = new LinkedHashMap<>();
     private final Map<String, NativeImage> nativeImage = new LinkedHashMap<>();
     private Active active;
+    private StagingStrategy staging;
 
     void setAll(Assemble assemble) {
         this.active = assemble.active;
+        this.staging = assemble.staging;
         setArchive(assemble.archive);
         setJlink(assemble.jlink);
         setJpackage(assemble.jpackage);
@@ -54,6 +58,14 @@ public class Assemble implements Activatable {
         return active != null ? active.name() : null;
     }
 
+    public StagingStrategy getStaging() {
+        return staging;
+    }
+
+    public void setStaging(StagingStrategy staging) {
+        this.staging = staging;
+    }
+
     public Map<String, Archive> getArchive() {
         return archive;
     }
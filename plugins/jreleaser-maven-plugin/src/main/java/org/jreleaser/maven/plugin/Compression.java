@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.maven.plugin;
+
+/**
+ * @author Andres Almiray
+ * @since 1.1.0
+ */
+public class Compression {
+    private Integer level;
+    private Integer blockSize;
+    private Boolean storeOnly;
+
+    void setAll(Compression compression) {
+        this.level = compression.level;
+        this.blockSize = compression.blockSize;
+        this.storeOnly = compression.storeOnly;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+
+    public Integer getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(Integer blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public Boolean isStoreOnly() {
+        return storeOnly != null && storeOnly;
+    }
+
+    public void setStoreOnly(Boolean storeOnly) {
+        this.storeOnly = storeOnly;
+    }
+
+    public boolean isStoreOnlySet() {
+        return storeOnly != null;
+    }
+}
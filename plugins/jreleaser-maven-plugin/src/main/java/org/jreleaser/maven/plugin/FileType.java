@@ -36,9 +36,11 @@ public enum FileType {
     TAR_BZ2,
     TAR_GZ,
     TAR_XZ,
+    TAR_ZST,
     TBZ2,
     TGZ,
     TXZ,
+    TZST,
     ZIP;
 
     public static FileType of(String str) {
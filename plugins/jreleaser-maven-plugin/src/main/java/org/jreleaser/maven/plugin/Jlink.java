@@ -36,11 +36,20 @@ public class Jlink extends AbstractJavaAssembler {
     private final Java java = new Java();
     private final Jdeps jdeps = new Jdeps();
     private final Artifact jdk = new Artifact();
+    private final Compression compression = new Compression();
 
     private String imageName;
     private String imageNameTransform;
     private Boolean copyJars;
 
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression.setAll(compression);
+    }
+
     public Jdeps getJdeps() {
         return jdeps;
     }
@@ -34,11 +34,20 @@ public class NativeImage extends AbstractJavaAssembler {
     private final Windows windows = new Windows();
     private final Osx osx = new Osx();
     private final Set<Artifact> graalJdks = new LinkedHashSet<>();
+    private final Compression compression = new Compression();
 
     private String imageName;
     private String imageNameTransform;
     private Archive.Format archiveFormat;
 
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression.setAll(compression);
+    }
+
     public String getImageName() {
         return imageName;
     }
@@ -37,6 +37,8 @@ public class Signing implements Activatable {
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
+    private Integer parallelism;
+    private Boolean fused;
 
     void setAll(Signing signing) {
         this.active = signing.active;
@@ -47,6 +49,8 @@ public class Signing implements Activatable {
         this.artifacts = signing.artifacts;
         this.files = signing.files;
         this.checksums = signing.checksums;
+        this.parallelism = signing.parallelism;
+        this.fused = signing.fused;
         setCommand(signing.command);
         setCosign(signing.cosign);
     }
@@ -146,6 +150,26 @@ public class Signing implements Activatable {
         this.checksums = checksums;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public boolean isFusedSet() {
+        return fused != null;
+    }
+
+    public Boolean isFused() {
+        return fused != null && fused;
+    }
+
+    public void setFused(Boolean fused) {
+        this.fused = fused;
+    }
+
     public Command getCommand() {
         return command;
     }
@@ -177,6 +201,7 @@ public class Signing implements Activatable {
         private String homeDir;
         private String publicKeyring;
         private Boolean defaultKeyring;
+        private Boolean verifyInProcess;
 
         void setAll(Command command) {
             this.executable = command.executable;
@@ -184,6 +209,7 @@ public class Signing implements Activatable {
             this.homeDir = command.homeDir;
             this.publicKeyring = command.publicKeyring;
             this.defaultKeyring = command.defaultKeyring;
+            this.verifyInProcess = command.verifyInProcess;
             setArgs(command.args);
         }
 
@@ -231,6 +257,18 @@ public class Signing implements Activatable {
             this.defaultKeyring = defaultKeyring;
         }
 
+        public boolean isVerifyInProcessSet() {
+            return verifyInProcess != null;
+        }
+
+        public Boolean isVerifyInProcess() {
+            return verifyInProcess != null && verifyInProcess;
+        }
+
+        public void setVerifyInProcess(Boolean verifyInProcess) {
+            this.verifyInProcess = verifyInProcess;
+        }
+
         public List<String> getArgs() {
             return args;
         }
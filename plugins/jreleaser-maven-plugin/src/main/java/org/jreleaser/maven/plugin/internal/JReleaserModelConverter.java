@@ -34,6 +34,7 @@ import org.jreleaser.maven.plugin.Checksum;
 import org.jreleaser.maven.plugin.Chocolatey;
 import org.jreleaser.maven.plugin.Codeberg;
 import org.jreleaser.maven.plugin.CommitAuthor;
+import org.jreleaser.maven.plugin.Compression;
 import org.jreleaser.maven.plugin.Discord;
 import org.jreleaser.maven.plugin.Discussions;
 import org.jreleaser.maven.plugin.Distribution;
@@ -954,6 +955,7 @@ public final class JReleaserModelConverter {
     private static org.jreleaser.model.Assemble convertAssemble(Assemble assemble) {
         org.jreleaser.model.Assemble a = new org.jreleaser.model.Assemble();
         a.setActive(tr(assemble.resolveActive()));
+        a.setStaging(assemble.getStaging());
         a.setArchive(convertArchive(assemble.getArchive()));
         a.setJlink(convertJlink(assemble.getJlink()));
         a.setJpackage(convertJpackage(assemble.getJpackage()));
@@ -980,6 +982,7 @@ public final class JReleaserModelConverter {
             .map(Object::toString)
             .map(org.jreleaser.model.Archive.Format::valueOf)
             .collect(Collectors.toSet()));
+        a.setCompression(convertCompression(archive.getCompression()));
         a.setFileSets(convertFileSets(archive.getFileSets()));
         return a;
     }
@@ -1030,6 +1033,7 @@ public final class JReleaserModelConverter {
         a.setImageName(tr(jlink.getImageName()));
         a.setImageNameTransform(tr(jlink.getImageNameTransform()));
         if (jlink.isCopyJarsSet()) a.setCopyJars(jlink.isCopyJars());
+        a.setCompression(convertCompression(jlink.getCompression()));
         return a;
     }
 
@@ -1124,6 +1128,14 @@ public final class JReleaserModelConverter {
         return a;
     }
 
+    private static org.jreleaser.model.Compression convertCompression(Compression compression) {
+        org.jreleaser.model.Compression c = new org.jreleaser.model.Compression();
+        c.setLevel(compression.getLevel());
+        c.setBlockSize(compression.getBlockSize());
+        if (compression.isStoreOnlySet()) c.setStoreOnly(compression.isStoreOnly());
+        return c;
+    }
+
     private static org.jreleaser.model.Jlink.Jdeps convertJdeps(Jlink.Jdeps jdeps) {
         org.jreleaser.model.Jlink.Jdeps j = new org.jreleaser.model.Jlink.Jdeps();
         j.setMultiRelease(jdeps.getMultiRelease());
@@ -1165,6 +1177,7 @@ public final class JReleaserModelConverter {
         a.setLinux(convertLinux(nativeImage.getLinux()));
         a.setWindows(convertWindows(nativeImage.getWindows()));
         a.setOsx(convertOsx(nativeImage.getOsx()));
+        a.setCompression(convertCompression(nativeImage.getCompression()));
         return a;
     }
 
@@ -1200,6 +1213,7 @@ public final class JReleaserModelConverter {
         s.setIndividual(checksum.isIndividual());
         s.setAlgorithms(checksum.getAlgorithms());
         if (checksum.isFilesSet()) s.setFiles(checksum.isFiles());
+        s.setParallelism(checksum.getParallelism());
         return s;
     }
 
@@ -1214,6 +1228,8 @@ public final class JReleaserModelConverter {
         if (signing.isArtifactsSet()) s.setArtifacts(signing.isArtifacts());
         if (signing.isFilesSet()) s.setFiles(signing.isFiles());
         if (signing.isChecksumsSet()) s.setChecksums(signing.isChecksums());
+        s.setParallelism(signing.getParallelism());
+        if (signing.isFusedSet()) s.setFused(signing.isFused());
         s.setCommand(convertSigningCommand(signing.getCommand()));
         s.setCosign(convertCosign(signing.getCosign()));
         return s;
@@ -1222,6 +1238,7 @@ public final class JReleaserModelConverter {
     private static org.jreleaser.model.Signing.Command convertSigningCommand(Signing.Command command) {
         org.jreleaser.model.Signing.Command c = new org.jreleaser.model.Signing.Command();
         if (command.isDefaultKeyringSet()) c.setDefaultKeyring(command.isDefaultKeyring());
+        if (command.isVerifyInProcessSet()) c.setVerifyInProcess(command.isVerifyInProcess());
         c.setExecutable(tr(command.getExecutable()));
         c.setKeyName(tr(command.getKeyName()));
         c.setHomeDir(tr(command.getHomeDir()));